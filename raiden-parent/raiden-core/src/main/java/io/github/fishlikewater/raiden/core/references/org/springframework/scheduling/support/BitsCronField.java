@@ -194,6 +194,13 @@ final class BitsCronField extends CronField {
         }
     }
 
+    /**
+     * Return the raw bits of this field, bit {@code n} is set when value {@code n} matches.
+     */
+    long bits() {
+        return this.bits;
+    }
+
     boolean getBit(int index) {
         return (this.bits & (1L << index)) != 0;
     }
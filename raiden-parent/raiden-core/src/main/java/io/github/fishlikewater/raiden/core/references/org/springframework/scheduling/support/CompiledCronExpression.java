@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code CompiledCronExpression}
+ * 预编译的corn表达式
+ * <p>
+ * 将 {@link CronExpression} 的各字段展开为位图, 直接在epoch毫秒上计算下一次触发时间,
+ * 不经过 {@code Temporal} 对象。相同的表达式(同一时区)只会编译一次并共享同一个实例。
+ * 日/周字段含有 {@code L}、{@code W}、{@code #} 时退回 {@link CronExpression#next} 计算。
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public final class CompiledCronExpression {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    /**
+     * 两个相邻时区变更之间至少相隔的秒数, 用于判断本地时间前后的偏移
+     */
+    private static final int TRANSITION_WINDOW = 64_800;
+
+    /**
+     * 最多向后查找的年数, 保证闰日与星期的所有组合都能遇到
+     */
+    private static final int MAX_YEARS = 400;
+
+    private static final ConcurrentMap<ZoneId, ConcurrentMap<String, CompiledCronExpression>> BY_TEXT = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<ZoneId, ConcurrentMap<CronExpression, CompiledCronExpression>> BY_FIELDS = new ConcurrentHashMap<>();
+
+    private final CronExpression expression;
+
+    private final ZoneId zone;
+
+    private final ZoneRules rules;
+
+    /**
+     * 含有无法展开为位图的字段时为true
+     */
+    private final boolean fallback;
+
+    private final long seconds;
+
+    private final long minutes;
+
+    private final long hours;
+
+    private final long daysOfMonth;
+
+    private final long months;
+
+    private final long daysOfWeek;
+
+    /**
+     * 最近一次使用的时区偏移区间
+     */
+    private volatile OffsetWindow window;
+
+    private CompiledCronExpression(CronExpression expression, ZoneId zone) {
+        this.expression = expression;
+        this.zone = zone;
+        this.rules = zone.getRules();
+        // fields: daysOfWeek, months, daysOfMonth, hours, minutes, seconds, nanos
+        final CronField[] fields = expression.fields();
+        boolean bits = true;
+        for (CronField field : fields) {
+            bits &= field instanceof BitsCronField;
+        }
+        this.fallback = !bits;
+        this.daysOfWeek = bits ? ((BitsCronField) fields[0]).bits() : 0;
+        this.months = bits ? ((BitsCronField) fields[1]).bits() : 0;
+        this.daysOfMonth = bits ? ((BitsCronField) fields[2]).bits() : 0;
+        this.hours = bits ? ((BitsCronField) fields[3]).bits() : 0;
+        this.minutes = bits ? ((BitsCronField) fields[4]).bits() : 0;
+        this.seconds = bits ? ((BitsCronField) fields[5]).bits() : 0;
+        this.window = rules.isFixedOffset()
+                ? new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(Instant.EPOCH).getTotalSeconds())
+                : new OffsetWindow(0, 0, 0);
+    }
+
+    /**
+     * 编译表达式(系统默认时区)
+     *
+     * @param expression corn表达式
+     * @return 共享的编译结果
+     */
+    public static CompiledCronExpression compile(String expression) {
+        return compile(expression, ZoneId.systemDefault());
+    }
+
+    /**
+     * 编译表达式, 相同文本或语义相同的表达式返回同一个实例
+     *
+     * @param expression corn表达式
+     * @param zone       时区
+     * @return 共享的编译结果
+     */
+    public static CompiledCronExpression compile(String expression, ZoneId zone) {
+        final ConcurrentMap<String, CompiledCronExpression> byText = BY_TEXT.computeIfAbsent(zone, z -> new ConcurrentHashMap<>());
+        final CompiledCronExpression compiled = byText.get(expression);
+        if (compiled != null) {
+            return compiled;
+        }
+        final CronExpression parsed = CronExpression.parse(expression);
+        final CompiledCronExpression shared = BY_FIELDS.computeIfAbsent(zone, z -> new ConcurrentHashMap<>())
+                .computeIfAbsent(parsed, e -> new CompiledCronExpression(e, zone));
+        final CompiledCronExpression previous = byText.putIfAbsent(expression, shared);
+        return previous != null ? previous : shared;
+    }
+
+    /**
+     * 计算给定时间之后的下一次触发时间
+     *
+     * @param epochMillis 起始时间(不含)
+     * @return 下一次触发的epoch毫秒, 不存在时返回-1
+     */
+    public long next(long epochMillis) {
+        if (fallback) {
+            return this.nextByTemporal(epochMillis);
+        }
+        final long epochSecond = Math.floorDiv(epochMillis, 1000);
+        final long local = this.nextLocal(epochSecond + 1 + this.offsetAt(epochSecond));
+        return local < 0 ? -1 : this.toEpochSecond(local) * 1000;
+    }
+
+    /**
+     * 依次返回给定时间之后的触发时间
+     *
+     * @param epochMillis 起始时间(不含)
+     * @param limit       最多返回的个数
+     * @return 触发时间(epoch毫秒)迭代器
+     */
+    public PrimitiveIterator.OfLong iterator(long epochMillis, int limit) {
+        return new PrimitiveIterator.OfLong() {
+
+            private long current = epochMillis;
+
+            private long upcoming = Long.MIN_VALUE;
+
+            private int remaining = limit;
+
+            @Override
+            public boolean hasNext() {
+                if (remaining <= 0) {
+                    return false;
+                }
+                if (upcoming == Long.MIN_VALUE) {
+                    upcoming = CompiledCronExpression.this.next(current);
+                }
+                return upcoming >= 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                current = upcoming;
+                upcoming = Long.MIN_VALUE;
+                remaining--;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * 给定时间之后的前N个触发时间
+     *
+     * @param epochMillis 起始时间(不含)
+     * @param count       个数
+     * @return 触发时间(epoch毫秒), 不足N个时只返回找到的部分
+     */
+    public long[] next(long epochMillis, int count) {
+        final long[] times = new long[count];
+        int size = 0;
+        long current = epochMillis;
+        while (size < count && (current = this.next(current)) >= 0) {
+            times[size++] = current;
+        }
+        return size == count ? times : Arrays.copyOf(times, size);
+    }
+
+    public CronExpression getExpression() {
+        return expression;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public String toString() {
+        return expression.toString();
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    /**
+     * 在本地时间(以秒计, 含时区偏移)上查找不早于 {@code local} 的第一个匹配时间
+     */
+    private long nextLocal(long local) {
+        long days = Math.floorDiv(local, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(local, SECONDS_PER_DAY);
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+        final long date = civil(days);
+        int year = (int) (date >> 9);
+        int month = (int) (date >> 5) & 0xF;
+        int day = (int) date & 0x1F;
+        final int maxYear = year + MAX_YEARS;
+
+        while (year <= maxYear) {
+            if (!matches(months, month)) {
+                int next = nextBit(months, month + 1);
+                if (next < 0) {
+                    year++;
+                    next = nextBit(months, 1);
+                }
+                month = next;
+                day = 1;
+                days = daysFromCivil(year, month, 1);
+                hour = minute = second = 0;
+                continue;
+            }
+            if (!matches(daysOfMonth, day)) {
+                // 直接跳到本月下一个匹配的日期, 本月没有则进入下个月
+                final int next = nextBit(daysOfMonth, day + 1);
+                if (next > 0 && next <= monthLength(year, month)) {
+                    days += next - day;
+                    day = next;
+                } else {
+                    if (++month > 12) {
+                        month = 1;
+                        year++;
+                    }
+                    day = 1;
+                    days = daysFromCivil(year, month, 1);
+                }
+                hour = minute = second = 0;
+                continue;
+            }
+            final int hourMatch;
+            if (!matches(daysOfWeek, dayOfWeek(days))
+                    || (hourMatch = nextBit(hours, hour)) < 0) {
+                // 下一天
+                days++;
+                if (day >= monthLength(year, month)) {
+                    day = 1;
+                    if (++month > 12) {
+                        month = 1;
+                        year++;
+                    }
+                } else {
+                    day++;
+                }
+                hour = minute = second = 0;
+                continue;
+            }
+            if (hourMatch != hour) {
+                hour = hourMatch;
+                minute = second = 0;
+            }
+            final int minuteMatch = nextBit(minutes, minute);
+            if (minuteMatch < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (minuteMatch != minute) {
+                minute = minuteMatch;
+                second = 0;
+            }
+            final int secondMatch = nextBit(seconds, second);
+            if (secondMatch < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return days * SECONDS_PER_DAY + hour * 3600L + minute * 60L + secondMatch;
+        }
+        return -1;
+    }
+
+    /**
+     * 本地时间转为epoch秒, 与 {@code LocalDateTime#atZone} 一致: 重叠时取较早的偏移, 间隙时顺延
+     */
+    private long toEpochSecond(long local) {
+        final int before = this.offsetAt(local - TRANSITION_WINDOW);
+        final int after = this.offsetAt(local + TRANSITION_WINDOW);
+        if (before == after || this.offsetAt(local - before) == before) {
+            return local - before;
+        }
+        if (this.offsetAt(local - after) == after) {
+            return local - after;
+        }
+        return local - before;
+    }
+
+    private int offsetAt(long epochSecond) {
+        final OffsetWindow current = this.window;
+        if (epochSecond >= current.from && epochSecond < current.to) {
+            return current.offset;
+        }
+        final Instant instant = Instant.ofEpochSecond(epochSecond);
+        final ZoneOffsetTransition next = rules.nextTransition(instant);
+        final int offset = rules.getOffset(instant).getTotalSeconds();
+        this.window = new OffsetWindow(epochSecond, next == null ? Long.MAX_VALUE : next.toEpochSecond(), offset);
+        return offset;
+    }
+
+    private long nextByTemporal(long epochMillis) {
+        final LocalDateTime next = expression.next(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone));
+        return next == null ? -1 : next.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private static boolean matches(long bits, int index) {
+        return (bits & (1L << index)) != 0;
+    }
+
+    private static int nextBit(long bits, int fromIndex) {
+        if (fromIndex > 63) {
+            return -1;
+        }
+        final long result = bits & (-1L << fromIndex);
+        return result == 0 ? -1 : Long.numberOfTrailingZeros(result);
+    }
+
+    /**
+     * 1(周一) - 7(周日), 与 {@code java.time.DayOfWeek} 一致
+     */
+    private static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    private static int monthLength(int year, int month) {
+        if (month == 2) {
+            return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return 30 + ((month + (month >> 3)) & 1);
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * epoch天数转为 {@code year << 9 | month << 5 | day}
+     */
+    private static long civil(long epochDay) {
+        final long z = epochDay + 719_468;
+        final long era = Math.floorDiv(z, 146_097);
+        final long dayOfEra = z - era * 146_097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long mp = (5 * dayOfYear + 2) / 153;
+        final long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        final long month = mp < 10 ? mp + 3 : mp - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    private record OffsetWindow(long from, long to, int offset) {
+    }
+}
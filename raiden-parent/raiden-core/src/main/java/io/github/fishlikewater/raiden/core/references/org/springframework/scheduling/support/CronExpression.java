@@ -249,6 +249,14 @@ public final class CronExpression {
     }
 
 
+    /**
+     * Return the fields of this expression, ordered from day of week down to nanos.
+     */
+    CronField[] fields() {
+        return this.fields;
+    }
+
+
     @Override
     public int hashCode() {
         return Arrays.hashCode(this.fields);
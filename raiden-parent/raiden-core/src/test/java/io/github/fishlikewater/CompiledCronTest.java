@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CompiledCronExpression;
+import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CronExpression;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+/**
+ * {@code CompiledCronTest}
+ * 预编译corn表达式与 {@link CronExpression} 的结果对比及性能对比
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class CompiledCronTest {
+
+    private static final String[] EXPRESSIONS = {
+            "0/1 * * * * ?",
+            "30 0/5 * * * ?",
+            "0 0 0/1 * * *",
+            "0 0 8-10 * * *",
+            "0 0/30 8-10 * * *",
+            "0 0 9-17 * * MON-FRI",
+            "0 0 0 25 12 ?",
+            "0 0 0 29 2 *",
+            "0 0 0 29 2 MON",
+            "0 15 2 * * *",
+            "0 30 1 * * SUN",
+            "15,45 10 23 31 * *",
+            "@hourly",
+            "@weekly",
+            "0 0 0 L * *",
+            "0 0 0 ? * 5#2",
+            "0 0 0 31 2 *",
+    };
+
+    private static final String[] ZONES = {"UTC", "Asia/Shanghai", "Europe/Berlin", "America/New_York", "Australia/Lord_Howe"};
+
+    @Test
+    public void testSameAsCronExpression() {
+        final Random random = new Random(42);
+        for (String zoneId : ZONES) {
+            final ZoneId zone = ZoneId.of(zoneId);
+            for (String expression : EXPRESSIONS) {
+                final CronExpression cron = CronExpression.parse(expression);
+                final CompiledCronExpression compiled = CompiledCronExpression.compile(expression, zone);
+                for (int i = 0; i < 200; i++) {
+                    final long seed = 1_500_000_000_000L + (long) (random.nextDouble() * 1_000_000_000_000L);
+                    Assert.assertEquals(expression + " " + zoneId + " " + seed, this.expected(cron, seed, zone), compiled.next(seed));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        final ZoneId zone = ZoneId.of("Europe/Berlin");
+        final CronExpression cron = CronExpression.parse("0 0/30 * * * *");
+        final CompiledCronExpression compiled = CompiledCronExpression.compile("0 0/30 * * * *", zone);
+        // 跨越夏令时切换
+        long expected = LocalDateTime.of(2026, 3, 28, 23, 0).atZone(zone).toInstant().toEpochMilli();
+        final PrimitiveIterator.OfLong iterator = compiled.iterator(expected, 200);
+        int count = 0;
+        while (iterator.hasNext()) {
+            expected = this.expected(cron, expected, zone);
+            Assert.assertEquals(expected, iterator.nextLong());
+            count++;
+        }
+        Assert.assertEquals(200, count);
+        Assert.assertArrayEquals(new long[0], CompiledCronExpression.compile("0 0 0 31 2 *", zone).next(expected, 3));
+    }
+
+    @Test
+    public void testIntern() {
+        Assert.assertSame(CompiledCronExpression.compile("0/1 * * * * ?"), CompiledCronExpression.compile("0/1 * * * * ?"));
+        Assert.assertSame(CompiledCronExpression.compile("0/1 * * * * ?"), CompiledCronExpression.compile("*/1 * * * * *"));
+        Assert.assertSame(CompiledCronExpression.compile("@daily"), CompiledCronExpression.compile("0 0 0 * * *"));
+        Assert.assertNotSame(CompiledCronExpression.compile("@daily", ZoneId.of("UTC")), CompiledCronExpression.compile("@daily", ZoneId.of("Asia/Shanghai")));
+    }
+
+    @Test
+    public void testBenchmark() {
+        final ZoneId zone = ZoneId.systemDefault();
+        final String[] expressions = {"0/1 * * * * ?", "30 0/5 * * * ?", "0 0 9-17 * * MON-FRI", "0 0 0 25 12 ?"};
+        final int iterations = 200_000;
+        for (String expression : expressions) {
+            final CronExpression cron = CronExpression.parse(expression);
+            final CompiledCronExpression compiled = CompiledCronExpression.compile(expression);
+            long sink = 0;
+            for (int round = 0; round < 3; round++) {
+                long seed = System.currentTimeMillis();
+                long begin = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    sink += this.expected(cron, seed + i * 997L, zone);
+                }
+                final long temporal = System.nanoTime() - begin;
+
+                begin = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    sink += compiled.next(seed + i * 997L);
+                }
+                final long bits = System.nanoTime() - begin;
+                if (round == 2) {
+                    System.out.println(StringUtils.format("{} -> CronExpression.next {} ns/op, CompiledCronExpression.next {} ns/op ({})",
+                            expression, temporal / iterations, bits / iterations, sink != 0));
+                }
+            }
+        }
+    }
+
+    private long expected(CronExpression cron, long epochMillis, ZoneId zone) {
+        final LocalDateTime next = cron.next(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone));
+        return next == null ? -1 : next.atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -35,4 +35,14 @@ public interface CacheComposite {
     default String getLockKey(String cacheKey) {
         return StringUtils.format("{}:lock", cacheKey);
     }
+
+    /**
+     * 获取后台刷新租约的key
+     *
+     * @param cacheKey 缓存key
+     * @return 租约的key
+     */
+    default String getRefreshLeaseKey(String cacheKey) {
+        return StringUtils.format("{}:refresh", cacheKey);
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig;
+
+import io.github.fishlikewater.raiden.redis.core.cache.CacheMetrics;
+import io.github.fishlikewater.raiden.redis.core.cache.NearCache;
+import io.github.fishlikewater.raiden.redis.core.enums.DataTypeEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code CacheMeterBinder}
+ * 将缓存指标导出到 Micrometer, 按缓存名称与数据类型分组
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class CacheMeterBinder implements MeterBinder, CacheMetrics {
+
+    private final NearCache nearCache;
+
+    private final Map<MeterKey, CacheMeters> meters = new ConcurrentHashMap<>(64);
+
+    private volatile MeterRegistry registry;
+
+    public CacheMeterBinder(NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (Objects.nonNull(nearCache)) {
+            Gauge.builder("raiden.cache.local.size", nearCache, cache -> cache.local().size())
+                    .description("本地缓存(L1)条数")
+                    .register(registry);
+            Gauge.builder("raiden.cache.local.hit.ratio", nearCache, NearCache::l1HitRatio)
+                    .description("本地缓存(L1)命中率")
+                    .register(registry);
+            Gauge.builder("raiden.cache.remote.hit.ratio", nearCache, NearCache::l2HitRatio)
+                    .description("L1未命中时redis(L2)命中率")
+                    .register(registry);
+        }
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordHit(String name, DataTypeEnum type, boolean local) {
+        final CacheMeters cacheMeters = this.meters(name, type);
+        if (Objects.nonNull(cacheMeters)) {
+            (local ? cacheMeters.localHit : cacheMeters.remoteHit).increment();
+        }
+    }
+
+    @Override
+    public void recordMiss(String name, DataTypeEnum type) {
+        final CacheMeters cacheMeters = this.meters(name, type);
+        if (Objects.nonNull(cacheMeters)) {
+            cacheMeters.miss.increment();
+        }
+    }
+
+    @Override
+    public void recordLoad(String name, DataTypeEnum type, long durationNanos, boolean success) {
+        final CacheMeters cacheMeters = this.meters(name, type);
+        if (Objects.nonNull(cacheMeters)) {
+            (success ? cacheMeters.load : cacheMeters.loadFailure).increment();
+            cacheMeters.loadDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordEviction(String name, DataTypeEnum type) {
+        final CacheMeters cacheMeters = this.meters(name, type);
+        if (Objects.nonNull(cacheMeters)) {
+            cacheMeters.eviction.increment();
+        }
+    }
+
+    @Override
+    public void recordGet(String name, DataTypeEnum type, long durationNanos) {
+        final CacheMeters cacheMeters = this.meters(name, type);
+        if (Objects.nonNull(cacheMeters)) {
+            cacheMeters.get.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordLockWait(String name, DataTypeEnum type, long durationNanos) {
+        final CacheMeters cacheMeters = this.meters(name, type);
+        if (Objects.nonNull(cacheMeters)) {
+            cacheMeters.lockWait.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private CacheMeters meters(String name, DataTypeEnum type) {
+        final MeterRegistry meterRegistry = this.registry;
+        if (Objects.isNull(meterRegistry)) {
+            return null;
+        }
+        final MeterKey key = new MeterKey(name, type);
+        final CacheMeters cacheMeters = this.meters.get(key);
+        if (Objects.nonNull(cacheMeters)) {
+            return cacheMeters;
+        }
+        return this.meters.computeIfAbsent(key, k -> new CacheMeters(meterRegistry, Tags.of("name", k.name(), "type", k.type().name().toLowerCase())));
+    }
+
+    private record MeterKey(String name, DataTypeEnum type) {
+    }
+
+    private static final class CacheMeters {
+
+        private final Counter localHit;
+
+        private final Counter remoteHit;
+
+        private final Counter miss;
+
+        private final Counter load;
+
+        private final Counter loadFailure;
+
+        private final Counter eviction;
+
+        private final Timer get;
+
+        private final Timer lockWait;
+
+        private final Timer loadDuration;
+
+        private CacheMeters(MeterRegistry registry, Tags tags) {
+            this.localHit = Counter.builder("raiden.cache.hits")
+                    .description("缓存命中次数")
+                    .tags(tags)
+                    .tag("level", "local")
+                    .register(registry);
+            this.remoteHit = Counter.builder("raiden.cache.hits")
+                    .description("缓存命中次数")
+                    .tags(tags)
+                    .tag("level", "remote")
+                    .register(registry);
+            this.miss = Counter.builder("raiden.cache.misses")
+                    .description("缓存未命中次数")
+                    .tags(tags)
+                    .register(registry);
+            this.load = Counter.builder("raiden.cache.loads")
+                    .description("回源加载成功次数")
+                    .tags(tags)
+                    .register(registry);
+            this.loadFailure = Counter.builder("raiden.cache.load.failures")
+                    .description("回源加载抛出异常的次数")
+                    .tags(tags)
+                    .register(registry);
+            this.eviction = Counter.builder("raiden.cache.evictions")
+                    .description("主动失效的次数")
+                    .tags(tags)
+                    .register(registry);
+            this.get = Timer.builder("raiden.cache.get")
+                    .description("redis读取耗时")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.lockWait = Timer.builder("raiden.cache.lock.wait")
+                    .description("等待加载锁的耗时")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.loadDuration = Timer.builder("raiden.cache.load")
+                    .description("回源加载耗时")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
@@ -15,16 +15,23 @@
  */
 package io.github.fishlikewater.raiden.redis.autoconfig;
 
+import io.github.fishlikewater.raiden.redis.autoconfig.aop.BatchCacheAspect;
 import io.github.fishlikewater.raiden.redis.autoconfig.aop.CacheAspect;
 import io.github.fishlikewater.raiden.redis.autoconfig.aop.CacheInvalidateAspect;
 import io.github.fishlikewater.raiden.redis.core.RedisUtils;
 import io.github.fishlikewater.raiden.redis.core.RedissonUtils;
+import io.github.fishlikewater.raiden.redis.core.cache.CacheMetrics;
+import io.github.fishlikewater.raiden.redis.core.cache.NearCache;
 import io.github.fishlikewater.raiden.redis.core.delay.DelayQueue;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.ParameterNameDiscoverer;
 
 /**
@@ -67,17 +74,53 @@ public class RedisAutoConfig {
 
     // ---------------------------------------------------------------- cache aop
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "raiden.redis.cache", name = "enabled", havingValue = "true")
+    public CacheAspect cacheAspect(RedisProperties properties, RedissonClient redissonClient, ParameterNameDiscoverer parameterNameDiscoverer, ObjectProvider<NearCache> nearCache, ObjectProvider<CacheMetrics> cacheMetrics) {
+        CacheAspect cacheAspect = new CacheAspect(redissonClient, properties, parameterNameDiscoverer, nearCache.getIfAvailable());
+        cacheMetrics.ifAvailable(cacheAspect::setMetrics);
+        return cacheAspect;
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "raiden.redis.cache", name = "enabled", havingValue = "true")
-    public CacheAspect cacheAspect(RedisProperties properties, RedissonClient redissonClient, ParameterNameDiscoverer parameterNameDiscoverer) {
-        return new CacheAspect(redissonClient, properties, parameterNameDiscoverer);
+    public CacheInvalidateAspect cacheInvalidateAspect(RedisProperties properties, RedissonClient redissonClient, ParameterNameDiscoverer parameterNameDiscoverer, ObjectProvider<NearCache> nearCache, ObjectProvider<CacheMetrics> cacheMetrics) {
+        CacheInvalidateAspect cacheInvalidateAspect = new CacheInvalidateAspect(redissonClient, properties, parameterNameDiscoverer, nearCache.getIfAvailable());
+        cacheMetrics.ifAvailable(cacheInvalidateAspect::setMetrics);
+        return cacheInvalidateAspect;
     }
 
     @Bean
     @ConditionalOnProperty(prefix = "raiden.redis.cache", name = "enabled", havingValue = "true")
-    public CacheInvalidateAspect cacheInvalidateAspect(RedisProperties properties, RedissonClient redissonClient, ParameterNameDiscoverer parameterNameDiscoverer) {
-        return new CacheInvalidateAspect(redissonClient, properties, parameterNameDiscoverer);
+    public BatchCacheAspect batchCacheAspect(RedisProperties properties, RedissonClient redissonClient, ParameterNameDiscoverer parameterNameDiscoverer, ObjectProvider<CacheMetrics> cacheMetrics) {
+        BatchCacheAspect batchCacheAspect = new BatchCacheAspect(redissonClient, properties, parameterNameDiscoverer);
+        cacheMetrics.ifAvailable(batchCacheAspect::setMetrics);
+        return batchCacheAspect;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "raiden.redis.cache.local", name = "enabled", havingValue = "true")
+    public NearCache nearCache(RedisProperties properties, RedissonClient redissonClient) {
+        RedisProperties.Local local = properties.getCache().getLocal();
+        return new NearCache(redissonClient, local.getTopic(), local.getMaximumSize(), local.getExpirationTime());
     }
 
     // ---------------------------------------------------------------- cache update
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "raiden.redis.cache", name = "enabled", havingValue = "true")
+    static class CacheMetricsConfig {
+
+        /**
+         * 缓存指标, 存在 {@link MeterRegistry} 时由 Micrometer 绑定
+         *
+         * @param nearCache 本地缓存, 开启时额外导出L1指标
+         * @return CacheMeterBinder
+         */
+        @Bean
+        public CacheMeterBinder cacheMeterBinder(ObjectProvider<NearCache> nearCache) {
+            return new CacheMeterBinder(nearCache.getIfAvailable());
+        }
+    }
 }
@@ -56,6 +56,74 @@ public class RedisProperties extends RedissonPatternCfg {
         private String prefix;
 
         private Duration expirationTime;
+
+        /**
+         * 空结果的默认存活时间
+         */
+        private Duration nullExpirationTime = Duration.ofSeconds(60);
+
+        /**
+         * 回源加载超过该耗时时输出慢加载日志, 为空时不输出
+         */
+        private Duration slowLoadThreshold;
+
+        private Local local = new Local();
+
+        private Refresh refresh = new Refresh();
+
+        /**
+         * 异步缓存方法回源的线程数, 回源不在redisson的事件循环线程上执行, 方法内可以使用同步的redis调用
+         */
+        private int asyncLoadThreads = 8;
+
+        /**
+         * 异步回源队列容量, 队列已满时本次调用返回的future以 {@code RejectedExecutionException} 失败
+         */
+        private int asyncLoadQueueCapacity = 1024;
+    }
+
+    @Data
+    public static class Local implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 3318027642815532071L;
+
+        /**
+         * 是否启用本地缓存(L1)
+         */
+        private boolean enabled;
+
+        /**
+         * 本地缓存最大条数
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * 本地缓存默认存活时间
+         */
+        private Duration expirationTime = Duration.ofMinutes(1);
+
+        /**
+         * 跨节点失效通知的topic
+         */
+        private String topic = "raiden:cache:invalidate";
+    }
+
+    @Data
+    public static class Refresh implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = -2931804722063615370L;
+
+        /**
+         * 后台刷新线程数
+         */
+        private int threads = 4;
+
+        /**
+         * 后台刷新队列容量, 队列已满时放弃本次刷新, 继续返回旧值
+         */
+        private int queueCapacity = 1024;
     }
 
     @Data
@@ -21,6 +21,8 @@ import io.github.fishlikewater.raiden.core.constant.CommonConstants;
 import io.github.fishlikewater.raiden.core.exception.RaidenExceptionCheck;
 import io.github.fishlikewater.raiden.redis.autoconfig.CacheComposite;
 import io.github.fishlikewater.raiden.redis.autoconfig.RedisProperties;
+import io.github.fishlikewater.raiden.redis.core.cache.CacheMetrics;
+import io.github.fishlikewater.raiden.redis.core.enums.DataTypeEnum;
 import io.github.fishlikewater.spring.boot.raiden.core.ExpressionUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -29,6 +31,13 @@ import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * {@code AbstractCacheAspect}
  *
@@ -39,6 +48,10 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 @Slf4j
 public abstract class AbstractCacheAspect implements CacheComposite {
 
+    private final Map<KeySpec, CacheKeyGenerator> keyGenerators = new ConcurrentHashMap<>(64);
+
+    private volatile CacheMetrics metrics = CacheMetrics.NOOP;
+
     /**
      * 获取参数名称解析器
      *
@@ -53,6 +66,138 @@ public abstract class AbstractCacheAspect implements CacheComposite {
      */
     protected abstract RedisProperties redisProperties();
 
+    /**
+     * 设置缓存指标记录
+     *
+     * @param metrics {@link CacheMetrics}
+     */
+    public void setMetrics(CacheMetrics metrics) {
+        this.metrics = Objects.isNull(metrics) ? CacheMetrics.NOOP : metrics;
+    }
+
+    protected CacheMetrics metrics() {
+        return this.metrics;
+    }
+
+    /**
+     * 缓存名称, 用于指标分组, 即生效的缓存前缀
+     *
+     * @param prefix 前缀, 为空时使用全局配置
+     * @return 缓存名称
+     */
+    protected String cacheName(String prefix) {
+        if (StringUtils.isBlank(prefix)) {
+            prefix = this.redisProperties().getCache().getPrefix();
+        }
+        return Objects.isNull(prefix) ? "" : prefix;
+    }
+
+    /**
+     * 执行目标方法回源, 记录耗时, 超过阈值时输出慢加载日志
+     *
+     * @param pjp  切点
+     * @param args 方法参数, 为null时使用原参数
+     * @param name 缓存名称
+     * @param type 数据类型
+     * @return 方法返回值
+     * @throws Throwable 目标方法异常
+     */
+    protected Object load(ProceedingJoinPoint pjp, Object[] args, String name, DataTypeEnum type) throws Throwable {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = Objects.isNull(args) ? pjp.proceed() : pjp.proceed(args);
+            success = true;
+            return result;
+        } finally {
+            this.recordLoad(pjp, name, type, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * 执行返回异步类型的目标方法回源, 耗时统计到结果完成为止
+     *
+     * @param pjp  切点
+     * @param name 缓存名称
+     * @param type 数据类型
+     * @return 方法结果
+     */
+    protected CompletableFuture<Object> loadAsync(ProceedingJoinPoint pjp, String name, DataTypeEnum type) {
+        long start = System.nanoTime();
+        CompletableFuture<Object> future;
+        try {
+            future = AsyncSupport.toFuture(pjp.proceed());
+        } catch (Throwable e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, e) -> this.recordLoad(pjp, name, type, System.nanoTime() - start, e == null));
+    }
+
+    private void recordLoad(ProceedingJoinPoint pjp, String name, DataTypeEnum type, long duration, boolean success) {
+        this.metrics.recordLoad(name, type, duration, success);
+        Duration threshold = this.redisProperties().getCache().getSlowLoadThreshold();
+        if (Objects.nonNull(threshold) && duration > threshold.toNanos()) {
+            log.warn("slow cache load: name={}, type={}, method={}, cost={}ms, success={}",
+                    name, type, pjp.getSignature().toShortString(), duration / 1_000_000, success);
+        }
+    }
+
+    /**
+     * 生成缓存key, 使用按方法预编译的key生成器
+     *
+     * @param key    key或SpEL表达式
+     * @param prefix 前缀, 为空时使用全局配置
+     * @param pjp    切点
+     * @return 缓存key
+     */
+    protected String generateCacheKey(String key, String prefix, ProceedingJoinPoint pjp) {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        return this.generateCacheKey(method, key, prefix, null, pjp.getArgs());
+    }
+
+    /**
+     * 生成缓存key, {@code variable} 不为空时作为额外变量, 其值为 {@code args} 的最后一个元素
+     *
+     * @param method   方法
+     * @param key      key或SpEL表达式
+     * @param prefix   前缀, 为空时使用全局配置
+     * @param variable 额外变量名称
+     * @param args     方法参数
+     * @return 缓存key
+     */
+    protected String generateCacheKey(Method method, String key, String prefix, String variable, Object[] args) {
+        if (StringUtils.isBlank(prefix)) {
+            prefix = this.redisProperties().getCache().getPrefix();
+        }
+        return this.keyGenerator(method, key, prefix, variable).generate(args);
+    }
+
+    /**
+     * 生成hash key, 不拼接前缀
+     *
+     * @param hashKey hash key或SpEL表达式
+     * @param pjp     切点
+     * @return hash key
+     */
+    protected String generateHashKey(String hashKey, ProceedingJoinPoint pjp) {
+        RaidenExceptionCheck.INSTANCE.isNotNull(hashKey, "hashKey.is.not.found");
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        return this.keyGenerator(method, hashKey, null, null).generate(pjp.getArgs());
+    }
+
+    /**
+     * 使用预编译的表达式求值, 不拼接前缀, {@code variable} 含义同 {@link #generateCacheKey(Method, String, String, String, Object[])}
+     *
+     * @param method     方法
+     * @param expression SpEL表达式
+     * @param variable   额外变量名称
+     * @param args       方法参数
+     * @return 表达式的值
+     */
+    protected Object evaluate(Method method, String expression, String variable, Object[] args) {
+        return this.keyGenerator(method, expression, null, variable).value(args);
+    }
+
     protected String populateCacheKey(String key, String prefix, ProceedingJoinPoint pjp) {
         RaidenExceptionCheck.INSTANCE.isNotNull(key, "key.is.not.found");
         // 判断key 是否为el表达式
@@ -97,6 +242,28 @@ public abstract class AbstractCacheAspect implements CacheComposite {
         return hashKey;
     }
 
+    protected String localKey(String cacheKey, String hashKey) {
+        return StringUtils.format("{}#{}", cacheKey, hashKey);
+    }
+
+    private CacheKeyGenerator keyGenerator(Method method, String key, String prefix, String variable) {
+        KeySpec spec = new KeySpec(method, key, prefix, variable);
+        CacheKeyGenerator generator = this.keyGenerators.get(spec);
+        if (generator != null) {
+            return generator;
+        }
+        return this.keyGenerators.computeIfAbsent(spec, s -> {
+            String[] parameterNames = this.parameterNameDiscoverer().getParameterNames(method);
+            if (parameterNames != null && variable != null) {
+                String[] names = new String[parameterNames.length + 1];
+                System.arraycopy(parameterNames, 0, names, 0, parameterNames.length);
+                names[parameterNames.length] = variable;
+                parameterNames = names;
+            }
+            return CacheKeyGenerator.compile(prefix, key, parameterNames);
+        });
+    }
+
     protected EvaluationContext getContext(ProceedingJoinPoint pjp) {
         MethodSignature methodSignature = (MethodSignature) pjp.getSignature();
         String[] parameterNames = this.parameterNameDiscoverer().getParameterNames(methodSignature.getMethod());
@@ -110,4 +277,7 @@ public abstract class AbstractCacheAspect implements CacheComposite {
         }
         return context;
     }
+
+    private record KeySpec(Method method, String key, String prefix, String variable) {
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import io.github.fishlikewater.raiden.core.exception.RaidenExceptionCheck;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * {@code AsyncSupport}
+ * 异步返回值适配, 支持 {@link CompletionStage} 及 {@code Mono}(存在reactor时)
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class AsyncSupport {
+
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Mono", AsyncSupport.class.getClassLoader());
+
+    private AsyncSupport() {
+    }
+
+    /**
+     * 是否为异步返回类型
+     *
+     * @param returnType 方法返回类型
+     * @return 是否异步
+     */
+    static boolean isAsync(Class<?> returnType) {
+        if (returnType != Object.class && returnType.isAssignableFrom(CompletableFuture.class)) {
+            return true;
+        }
+        return REACTOR_PRESENT && ReactorAdapter.isMono(returnType);
+    }
+
+    /**
+     * 将方法返回值转换为 {@link CompletableFuture}
+     *
+     * @param result 方法返回值
+     * @return CompletableFuture
+     */
+    @SuppressWarnings("unchecked")
+    static CompletableFuture<Object> toFuture(Object result) {
+        if (result == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            return (CompletableFuture<Object>) stage.toCompletableFuture();
+        }
+        if (REACTOR_PRESENT && ReactorAdapter.isMono(result.getClass())) {
+            return ReactorAdapter.toFuture(result);
+        }
+        return RaidenExceptionCheck.INSTANCE.throwUnchecked("cache.async.return.type.unsupported: {}", result.getClass().getName());
+    }
+
+    /**
+     * 将缓存流程转换为方法声明的返回类型, {@code Mono} 在订阅时才执行
+     *
+     * @param returnType 方法返回类型
+     * @param supplier   缓存流程
+     * @return 方法返回值
+     */
+    static Object fromFuture(Class<?> returnType, Supplier<CompletableFuture<Object>> supplier) {
+        if (REACTOR_PRESENT && ReactorAdapter.isMono(returnType)) {
+            return ReactorAdapter.defer(supplier);
+        }
+        return supplier.get();
+    }
+
+    /**
+     * 单独的类引用reactor, 避免未引入reactor时加载失败
+     */
+    private static final class ReactorAdapter {
+
+        private static boolean isMono(Class<?> type) {
+            return Mono.class.isAssignableFrom(type);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static CompletableFuture<Object> toFuture(Object mono) {
+            return ((Mono<Object>) mono).toFuture();
+        }
+
+        private static Object defer(Supplier<CompletableFuture<Object>> supplier) {
+            return Mono.defer(() -> Mono.fromFuture(supplier.get()));
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import io.github.fishlikewater.raiden.core.DateUtils;
+import io.github.fishlikewater.raiden.core.ObjectUtils;
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.exception.RaidenExceptionCheck;
+import io.github.fishlikewater.raiden.redis.autoconfig.RedisProperties;
+import io.github.fishlikewater.raiden.redis.core.annotation.BatchCache;
+import io.github.fishlikewater.raiden.redis.core.cache.CacheValue;
+import io.github.fishlikewater.raiden.redis.core.cache.NullValue;
+import io.github.fishlikewater.raiden.redis.core.enums.DataTypeEnum;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * {@code BatchCacheAspect}
+ * 批量缓存切面
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Aspect
+@Order(1)
+@ConditionalOnBean(RedissonClient.class)
+public class BatchCacheAspect extends AbstractCacheAspect {
+
+    private static final String ITEM = "item";
+
+    private final RedissonClient redissonClient;
+
+    private final RedisProperties redisProperties;
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer;
+
+    public BatchCacheAspect(RedissonClient redissonClient, RedisProperties redisProperties, ParameterNameDiscoverer parameterNameDiscoverer) {
+        this.redissonClient = redissonClient;
+        this.redisProperties = redisProperties;
+        this.parameterNameDiscoverer = parameterNameDiscoverer;
+    }
+
+    @Pointcut(value = "@annotation(io.github.fishlikewater.raiden.redis.core.annotation.BatchCache)")
+    public void anyMethod() {
+    }
+
+    @Around(value = "anyMethod() && @annotation(batchCache)")
+    public Object aroundAdvice4Method(ProceedingJoinPoint pjp, BatchCache batchCache) throws Throwable {
+        return this.handleBatch(pjp, batchCache);
+    }
+
+    private Object handleBatch(ProceedingJoinPoint pjp, BatchCache batchCache) throws Throwable {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        int index = this.batchIndex(method, batchCache);
+        Object[] args = pjp.getArgs();
+        Collection<?> items = (Collection<?>) args[index];
+        if (ObjectUtils.isNullOrEmpty(items)) {
+            return pjp.proceed();
+        }
+        Class<?> returnType = method.getReturnType();
+        boolean mapResult = Map.class.isAssignableFrom(returnType);
+        RaidenExceptionCheck.INSTANCE.isTrue(mapResult || Collection.class.isAssignableFrom(returnType), "batch.cache.return.type.unsupported");
+        RaidenExceptionCheck.INSTANCE.isTrue(mapResult || StringUtils.isNotBlank(batchCache.resultKey()), "batch.cache.result.key.is.not.found");
+
+        // 1. 计算每个元素的缓存key, 一次MGET读取; 重复元素只计算一次, 组装时按入参逐个取值
+        Object[] itemArgs = Arrays.copyOf(args, args.length + 1);
+        Map<Object, String> keys = new LinkedHashMap<>(items.size());
+        for (Object item : items) {
+            if (!keys.containsKey(item)) {
+                keys.put(item, this.itemKey(batchCache, method, itemArgs, item));
+            }
+        }
+        String name = this.cacheName(batchCache.prefix());
+        long start = System.nanoTime();
+        Map<String, Object> values = new HashMap<>(this.redissonClient.getBuckets().get(keys.values().toArray(new String[0])));
+        this.metrics().recordGet(name, DataTypeEnum.GENERAL, System.nanoTime() - start);
+
+        // 2. 只用未命中的元素调用方法
+        Collection<Object> missing = this.newCollection(method.getParameterTypes()[index]);
+        for (Map.Entry<Object, String> entry : keys.entrySet()) {
+            if (!this.isHit(values.get(entry.getValue()), batchCache)) {
+                missing.add(entry.getKey());
+                this.metrics().recordMiss(name, DataTypeEnum.GENERAL);
+            } else {
+                this.metrics().recordHit(name, DataTypeEnum.GENERAL, false);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Object[] missingArgs = args.clone();
+            missingArgs[index] = missing;
+            Object result = this.load(pjp, missingArgs, name, DataTypeEnum.GENERAL);
+            Map<String, Object> loaded = this.collect(method, result, mapResult, batchCache, itemArgs);
+            if (batchCache.cacheNull()) {
+                // 方法未返回的元素写入空值占位
+                for (Object item : missing) {
+                    loaded.putIfAbsent(keys.get(item), NullValue.INSTANCE);
+                }
+            }
+            this.writeBack(loaded, batchCache);
+            values.putAll(loaded);
+        }
+
+        // 3. 按入参顺序组装结果
+        return this.assemble(items, keys, values, mapResult, returnType);
+    }
+
+    private int batchIndex(Method method, BatchCache batchCache) {
+        Class<?>[] types = method.getParameterTypes();
+        String[] names = this.parameterNameDiscoverer.getParameterNames(method);
+        for (int i = 0; i < types.length; i++) {
+            if (!Collection.class.isAssignableFrom(types[i])) {
+                continue;
+            }
+            if (StringUtils.isBlank(batchCache.param()) || (names != null && batchCache.param().equals(names[i]))) {
+                return i;
+            }
+        }
+        return RaidenExceptionCheck.INSTANCE.throwUnchecked("batch.cache.param.is.not.found");
+    }
+
+    private String itemKey(BatchCache batchCache, Method method, Object[] itemArgs, Object item) {
+        itemArgs[itemArgs.length - 1] = item;
+        return this.generateCacheKey(method, batchCache.key(), batchCache.prefix(), ITEM, itemArgs);
+    }
+
+    /**
+     * 与 {@link CacheAspect} 一致: 未开启 {@code cacheNull} 时空集合等空值不算命中
+     */
+    private boolean isHit(Object cached, BatchCache batchCache) {
+        if (batchCache.cacheNull()) {
+            return cached != null;
+        }
+        return ObjectUtils.isNotNullOrEmpty(CacheValue.unwrap(cached));
+    }
+
+    private Map<String, Object> collect(Method method, Object result, boolean mapResult, BatchCache batchCache, Object[] itemArgs) {
+        Map<String, Object> loaded = new LinkedHashMap<>();
+        if (result == null) {
+            return loaded;
+        }
+        if (mapResult) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                if (entry.getValue() != null) {
+                    loaded.put(this.itemKey(batchCache, method, itemArgs, entry.getKey()), entry.getValue());
+                }
+            }
+            return loaded;
+        }
+        for (Object value : (Collection<?>) result) {
+            if (value == null) {
+                continue;
+            }
+            itemArgs[itemArgs.length - 1] = value;
+            Object item = this.evaluate(method, batchCache.resultKey(), ITEM, itemArgs);
+            loaded.put(this.itemKey(batchCache, method, itemArgs, item), value);
+        }
+        return loaded;
+    }
+
+    private void writeBack(Map<String, Object> loaded, BatchCache batchCache) {
+        if (loaded.isEmpty()) {
+            return;
+        }
+        Duration expiration = this.expiration(batchCache);
+        Duration nullExpiration = this.nullExpiration(batchCache);
+        RBatch batch = this.redissonClient.createBatch();
+        for (Map.Entry<String, Object> entry : loaded.entrySet()) {
+            Object value = entry.getValue();
+            batch.getBucket(entry.getKey()).setAsync(value, this.isNegative(value, batchCache) ? nullExpiration : expiration);
+        }
+        batch.execute();
+    }
+
+    private boolean isNegative(Object value, BatchCache batchCache) {
+        return value instanceof NullValue || (batchCache.cacheNull() && ObjectUtils.isNullOrEmpty(value));
+    }
+
+    private Object assemble(Collection<?> items, Map<Object, String> keys, Map<String, Object> values, boolean mapResult, Class<?> returnType) {
+        if (mapResult) {
+            Map<Object, Object> result = new LinkedHashMap<>(keys.size());
+            keys.forEach((item, key) -> {
+                Object value = CacheValue.unwrap(values.get(key));
+                if (value != null) {
+                    result.put(item, value);
+                }
+            });
+            return result;
+        }
+        Collection<Object> result = this.newCollection(returnType);
+        for (Object item : items) {
+            Object value = CacheValue.unwrap(values.get(keys.get(item)));
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    private Collection<Object> newCollection(Class<?> type) {
+        if (type.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        }
+        if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>();
+        }
+        return RaidenExceptionCheck.INSTANCE.throwUnchecked("batch.cache.collection.type.unsupported: {}", type.getName());
+    }
+
+    private Duration expiration(BatchCache batchCache) {
+        if (batchCache.expire() <= 0) {
+            return this.redisProperties.getCache().getExpirationTime();
+        }
+        ChronoUnit chronoUnit = DateUtils.convertToChronoUnit(batchCache.timeUnit());
+        return Duration.of(batchCache.expire(), chronoUnit);
+    }
+
+    private Duration nullExpiration(BatchCache batchCache) {
+        if (batchCache.nullTtl() <= 0) {
+            return this.redisProperties.getCache().getNullExpirationTime();
+        }
+        ChronoUnit chronoUnit = DateUtils.convertToChronoUnit(batchCache.timeUnit());
+        return Duration.of(batchCache.nullTtl(), chronoUnit);
+    }
+
+    @Override
+    protected ParameterNameDiscoverer parameterNameDiscoverer() {
+        return this.parameterNameDiscoverer;
+    }
+
+    @Override
+    protected RedisProperties redisProperties() {
+        return this.redisProperties;
+    }
+}
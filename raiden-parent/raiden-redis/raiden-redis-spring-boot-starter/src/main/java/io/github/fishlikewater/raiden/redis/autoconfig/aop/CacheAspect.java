@@ -17,13 +17,20 @@ package io.github.fishlikewater.raiden.redis.autoconfig.aop;
 
 import io.github.fishlikewater.raiden.core.DateUtils;
 import io.github.fishlikewater.raiden.core.ObjectUtils;
+import io.github.fishlikewater.raiden.core.thread.NamedThreadFactory;
 import io.github.fishlikewater.raiden.redis.autoconfig.RedisProperties;
 import io.github.fishlikewater.raiden.redis.core.annotation.Cache;
+import io.github.fishlikewater.raiden.redis.core.cache.CacheValue;
+import io.github.fishlikewater.raiden.redis.core.cache.NearCache;
+import io.github.fishlikewater.raiden.redis.core.cache.NullValue;
+import io.github.fishlikewater.raiden.redis.core.cache.SingleFlight;
 import io.github.fishlikewater.raiden.redis.core.enums.DataTypeEnum;
+import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RBucket;
 import org.redisson.api.RLock;
 import org.redisson.api.RMapCache;
@@ -31,12 +38,21 @@ import org.redisson.api.RedissonClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.EvaluationContext;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * {@code CacheAspect}
@@ -46,6 +62,7 @@ import java.util.concurrent.TimeUnit;
  * @version 1.0.3
  * @since 2024/06/24
  */
+@Slf4j
 @Aspect
 @Order(1)
 @ConditionalOnBean(RedissonClient.class)
@@ -57,10 +74,37 @@ public class CacheAspect extends AbstractCacheAspect {
 
     private final ParameterNameDiscoverer parameterNameDiscoverer;
 
+    private final NearCache nearCache;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final AtomicLong asyncLockIds = new AtomicLong(Long.MIN_VALUE);
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor refreshExecutor;
+
+    private final ThreadPoolExecutor asyncLoadExecutor;
+
     public CacheAspect(RedissonClient redissonClient, RedisProperties redisProperties, ParameterNameDiscoverer parameterNameDiscoverer) {
+        this(redissonClient, redisProperties, parameterNameDiscoverer, null);
+    }
+
+    public CacheAspect(RedissonClient redissonClient, RedisProperties redisProperties, ParameterNameDiscoverer parameterNameDiscoverer, NearCache nearCache) {
         this.redissonClient = redissonClient;
         this.redisProperties = redisProperties;
         this.parameterNameDiscoverer = parameterNameDiscoverer;
+        this.nearCache = nearCache;
+        this.refreshExecutor = this.refreshExecutor(redisProperties.getCache().getRefresh());
+        this.asyncLoadExecutor = this.asyncLoadExecutor(redisProperties.getCache());
+    }
+
+    /**
+     * 关闭后台刷新和异步回源线程池
+     */
+    public void close() {
+        this.refreshExecutor.shutdown();
+        this.asyncLoadExecutor.shutdown();
     }
 
     @Pointcut(value = "@annotation(io.github.fishlikewater.raiden.redis.core.annotation.Cache)")
@@ -73,6 +117,10 @@ public class CacheAspect extends AbstractCacheAspect {
     }
 
     private Object handleCache(Cache cache, ProceedingJoinPoint pjp) throws Throwable {
+        Class<?> returnType = ((MethodSignature) pjp.getSignature()).getReturnType();
+        if (AsyncSupport.isAsync(returnType)) {
+            return AsyncSupport.fromFuture(returnType, () -> this.handleAsync(pjp, cache));
+        }
         // 获取缓存key
         DataTypeEnum type = cache.type();
         if (Objects.requireNonNull(type) == DataTypeEnum.HASH) {
@@ -82,62 +130,468 @@ public class CacheAspect extends AbstractCacheAspect {
     }
 
     private Object handleGeneral(ProceedingJoinPoint pjp, Cache cache) throws Throwable {
-        String cacheKey = this.populateCacheKey(cache.key(), cache.prefix(), pjp);
+        String cacheKey = this.generateCacheKey(cache.key(), cache.prefix(), pjp);
+        String name = this.cacheName(cache.prefix());
+        boolean local = this.isLocal(cache);
+        if (local) {
+            Object cached = this.nearCache.get(cacheKey);
+            if (cached != null) {
+                this.metrics().recordHit(name, DataTypeEnum.GENERAL, true);
+                return CacheValue.unwrap(cached);
+            }
+        }
         RBucket<Object> bucket = redissonClient.getBucket(cacheKey);
+        long start = System.nanoTime();
         Object obj = bucket.get();
-        if (ObjectUtils.isNotNullOrEmpty(obj)) {
-            return obj;
+        this.metrics().recordGet(name, DataTypeEnum.GENERAL, System.nanoTime() - start);
+        if (this.isHit(obj, cache)) {
+            this.metrics().recordHit(name, DataTypeEnum.GENERAL, false);
+            Object value = CacheValue.unwrap(obj);
+            if (this.shouldRefreshAhead(obj, cache)) {
+                this.refreshAhead(cache, cacheKey, () -> this.proceedGeneral(pjp, cache, cacheKey, bucket));
+            } else if (this.shouldRefresh(obj, cache)) {
+                // 提前刷新, 本节点已有刷新或抢不到锁时继续返回旧值
+                return this.singleFlight.executeIfAbsent(cacheKey, () -> this.refreshGeneral(pjp, cache, cacheKey, bucket, value), value);
+            }
+            this.promote(local, cacheKey, value, cache);
+            return value;
         }
+        this.recordMiss(local, name, DataTypeEnum.GENERAL);
+        return this.singleFlight.execute(cacheKey, () -> this.loadGeneral(pjp, cache, cacheKey, bucket));
+    }
 
+    private Object loadGeneral(ProceedingJoinPoint pjp, Cache cache, String cacheKey, RBucket<Object> bucket) throws Throwable {
         RLock lock = redissonClient.getLock(this.getLockKey(cacheKey));
-        lock.lock();
+        this.lock(lock, this.cacheName(cache.prefix()), DataTypeEnum.GENERAL);
         try {
             Object object = bucket.get();
-            if (ObjectUtils.isNotNullOrEmpty(object)) {
+            if (this.isHit(object, cache)) {
+                object = CacheValue.unwrap(object);
+                this.putLocal(this.isLocal(cache), cacheKey, object, cache);
                 return object;
             }
-            Object result = pjp.proceed();
-            if (cache.expire() <= 0) {
-                bucket.set(result, this.redisProperties.getCache().getExpirationTime());
-            } else {
-                ChronoUnit chronoUnit = DateUtils.convertToChronoUnit(cache.timeUnit());
-                bucket.set(result, Duration.of(cache.expire(), chronoUnit));
-            }
-            return result;
+            return this.proceedGeneral(pjp, cache, cacheKey, bucket);
         } finally {
             lock.unlock();
         }
     }
 
+    private Object refreshGeneral(ProceedingJoinPoint pjp, Cache cache, String cacheKey, RBucket<Object> bucket, Object stale) throws Throwable {
+        RLock lock = redissonClient.getLock(this.getLockKey(cacheKey));
+        if (!lock.tryLock()) {
+            return stale;
+        }
+        try {
+            return this.proceedGeneral(pjp, cache, cacheKey, bucket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object proceedGeneral(ProceedingJoinPoint pjp, Cache cache, String cacheKey, RBucket<Object> bucket) throws Throwable {
+        long start = System.currentTimeMillis();
+        Object result = this.load(pjp, null, this.cacheName(cache.prefix()), DataTypeEnum.GENERAL);
+        Duration expiration = this.expiration(cache, result);
+        bucket.set(this.wrap(result, cache, start, expiration), expiration);
+        this.onWrite(this.isLocal(cache), cacheKey, result, cache);
+        return result;
+    }
+
     private Object handleHash(ProceedingJoinPoint pjp, Cache cache) throws Throwable {
-        EvaluationContext context = this.getContext(pjp);
-        String hashKey = this.populateHashKey(cache.hashKey(), context);
-        String cacheKey = this.populateCacheKey(cache.key(), cache.prefix(), context);
+        String hashKey = this.generateHashKey(cache.hashKey(), pjp);
+        String cacheKey = this.generateCacheKey(cache.key(), cache.prefix(), pjp);
+        String name = this.cacheName(cache.prefix());
+        boolean local = this.isLocal(cache);
+        String localKey = this.localKey(cacheKey, hashKey);
+        if (local) {
+            Object cached = this.nearCache.get(localKey);
+            if (cached != null) {
+                this.metrics().recordHit(name, DataTypeEnum.HASH, true);
+                return CacheValue.unwrap(cached);
+            }
+        }
         RMapCache<String, Object> map = redissonClient.getMapCache(cacheKey);
+        long start = System.nanoTime();
         Object obj = map.get(hashKey);
-        if (ObjectUtils.isNotNullOrEmpty(obj)) {
-            return obj;
+        this.metrics().recordGet(name, DataTypeEnum.HASH, System.nanoTime() - start);
+        if (this.isHit(obj, cache)) {
+            this.metrics().recordHit(name, DataTypeEnum.HASH, false);
+            Object value = CacheValue.unwrap(obj);
+            if (this.shouldRefreshAhead(obj, cache)) {
+                this.refreshAhead(cache, localKey, () -> this.proceedHash(pjp, cache, cacheKey, hashKey, map));
+            } else if (this.shouldRefresh(obj, cache)) {
+                return this.singleFlight.executeIfAbsent(localKey, () -> this.refreshHash(pjp, cache, cacheKey, hashKey, map, value), value);
+            }
+            this.promote(local, localKey, value, cache);
+            return value;
         }
+        this.recordMiss(local, name, DataTypeEnum.HASH);
+        return this.singleFlight.execute(localKey, () -> this.loadHash(pjp, cache, cacheKey, hashKey, map));
+    }
+
+    private Object loadHash(ProceedingJoinPoint pjp, Cache cache, String cacheKey, String hashKey, RMapCache<String, Object> map) throws Throwable {
         RLock lock = redissonClient.getLock(this.getLockKey(cacheKey));
-        lock.lock();
+        this.lock(lock, this.cacheName(cache.prefix()), DataTypeEnum.HASH);
         try {
-            obj = map.get(hashKey);
-            if (ObjectUtils.isNotNullOrEmpty(obj)) {
+            Object obj = map.get(hashKey);
+            if (this.isHit(obj, cache)) {
+                obj = CacheValue.unwrap(obj);
+                this.putLocal(this.isLocal(cache), this.localKey(cacheKey, hashKey), obj, cache);
                 return obj;
             }
-            Object result = pjp.proceed();
-            if (cache.expire() <= 0) {
-                Duration expirationTime = this.redisProperties.getCache().getExpirationTime();
-                map.put(hashKey, result, expirationTime.toSeconds(), TimeUnit.SECONDS);
-            } else {
-                map.put(hashKey, result, cache.expire(), cache.timeUnit());
-            }
-            return result;
+            return this.proceedHash(pjp, cache, cacheKey, hashKey, map);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object refreshHash(ProceedingJoinPoint pjp, Cache cache, String cacheKey, String hashKey, RMapCache<String, Object> map, Object stale) throws Throwable {
+        RLock lock = redissonClient.getLock(this.getLockKey(cacheKey));
+        if (!lock.tryLock()) {
+            return stale;
+        }
+        try {
+            return this.proceedHash(pjp, cache, cacheKey, hashKey, map);
         } finally {
             lock.unlock();
         }
     }
 
+    private Object proceedHash(ProceedingJoinPoint pjp, Cache cache, String cacheKey, String hashKey, RMapCache<String, Object> map) throws Throwable {
+        long start = System.currentTimeMillis();
+        Object result = this.load(pjp, null, this.cacheName(cache.prefix()), DataTypeEnum.HASH);
+        Duration expiration = this.expiration(cache, result);
+        map.put(hashKey, this.wrap(result, cache, start, expiration), expiration.toMillis(), TimeUnit.MILLISECONDS);
+        this.onWrite(this.isLocal(cache), this.localKey(cacheKey, hashKey), result, cache);
+        return result;
+    }
+
+    private void lock(RLock lock, String name, DataTypeEnum type) {
+        long start = System.nanoTime();
+        lock.lock();
+        this.metrics().recordLockWait(name, type, System.nanoTime() - start);
+    }
+
+    // ---------------------------------------------------------------- async
+
+    private CompletableFuture<Object> handleAsync(ProceedingJoinPoint pjp, Cache cache) {
+        AsyncEntry entry;
+        try {
+            entry = this.asyncEntry(pjp, cache);
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        DataTypeEnum type = cache.type();
+        String name = this.cacheName(cache.prefix());
+        boolean local = this.isLocal(cache);
+        if (local) {
+            Object cached = this.nearCache.get(entry.localKey());
+            if (cached != null) {
+                this.metrics().recordHit(name, type, true);
+                return CompletableFuture.completedFuture(CacheValue.unwrap(cached));
+            }
+        }
+        long start = System.nanoTime();
+        return entry.get().toCompletableFuture().thenCompose(obj -> {
+            this.metrics().recordGet(name, type, System.nanoTime() - start);
+            if (this.isHit(obj, cache)) {
+                this.metrics().recordHit(name, type, false);
+                Object value = CacheValue.unwrap(obj);
+                if (this.shouldRefreshAhead(obj, cache)) {
+                    this.refreshAheadAsync(cache, entry.localKey(), () -> this.proceedAsync(pjp, cache, entry));
+                } else if (this.shouldRefresh(obj, cache)) {
+                    return this.singleFlight.executeAsyncIfAbsent(entry.localKey(), () -> this.refreshAsync(pjp, cache, entry, value), value);
+                }
+                this.promote(local, entry.localKey(), value, cache);
+                return CompletableFuture.completedFuture(value);
+            }
+            this.recordMiss(local, name, type);
+            return this.singleFlight.executeAsync(entry.localKey(), () -> this.loadAsync(pjp, cache, entry));
+        });
+    }
+
+    private AsyncEntry asyncEntry(ProceedingJoinPoint pjp, Cache cache) {
+        String cacheKey = this.generateCacheKey(cache.key(), cache.prefix(), pjp);
+        if (Objects.requireNonNull(cache.type()) == DataTypeEnum.HASH) {
+            String hashKey = this.generateHashKey(cache.hashKey(), pjp);
+            return new HashEntry(cacheKey, this.localKey(cacheKey, hashKey), hashKey, redissonClient.getMapCache(cacheKey));
+        }
+        return new BucketEntry(cacheKey, cacheKey, redissonClient.getBucket(cacheKey));
+    }
+
+    private CompletableFuture<Object> loadAsync(ProceedingJoinPoint pjp, Cache cache, AsyncEntry entry) {
+        RLock lock = redissonClient.getLock(this.getLockKey(entry.cacheKey()));
+        // 异步锁不绑定线程, 使用独立的持有者id
+        long lockId = this.asyncLockIds.incrementAndGet();
+        long start = System.nanoTime();
+        return lock.lockAsync(lockId).toCompletableFuture().thenCompose(locked -> {
+            this.metrics().recordLockWait(this.cacheName(cache.prefix()), cache.type(), System.nanoTime() - start);
+            return entry.get().toCompletableFuture().thenCompose(obj -> {
+                if (this.isHit(obj, cache)) {
+                    Object value = CacheValue.unwrap(obj);
+                    this.putLocal(this.isLocal(cache), entry.localKey(), value, cache);
+                    return CompletableFuture.completedFuture(value);
+                }
+                return this.proceedAsync(pjp, cache, entry);
+            }).whenComplete((result, e) -> lock.unlockAsync(lockId));
+        });
+    }
+
+    private CompletableFuture<Object> refreshAsync(ProceedingJoinPoint pjp, Cache cache, AsyncEntry entry, Object stale) {
+        RLock lock = redissonClient.getLock(this.getLockKey(entry.cacheKey()));
+        long lockId = this.asyncLockIds.incrementAndGet();
+        return lock.tryLockAsync(lockId).toCompletableFuture().thenCompose(locked -> {
+            if (!locked) {
+                return CompletableFuture.completedFuture(stale);
+            }
+            return this.proceedAsync(pjp, cache, entry).whenComplete((result, e) -> lock.unlockAsync(lockId));
+        });
+    }
+
+    private CompletableFuture<Object> proceedAsync(ProceedingJoinPoint pjp, Cache cache, AsyncEntry entry) {
+        long start = System.currentTimeMillis();
+        // 调用方通常处在redisson回调(netty事件循环)中, 方法体内的同步redis调用会阻塞事件循环, 先切换到回源线程池
+        CompletableFuture<Object> loaded;
+        try {
+            loaded = CompletableFuture
+                    .supplyAsync(() -> this.loadAsync(pjp, this.cacheName(cache.prefix()), cache.type()), this.asyncLoadExecutor)
+                    .thenCompose(Function.identity());
+        } catch (RejectedExecutionException e) {
+            // 回源队列已满, 不在调用线程上回源
+            return CompletableFuture.failedFuture(e);
+        }
+        return loaded.thenCompose(result -> {
+            Duration expiration = this.expiration(cache, result);
+            return entry.set(this.wrap(result, cache, start, expiration), expiration)
+                    .thenCompose(ignore -> this.onWriteAsync(this.isLocal(cache), entry.localKey(), result, cache))
+                    .thenApply(ignore -> result);
+        });
+    }
+
+    private CompletionStage<Void> onWriteAsync(boolean local, String localKey, Object value, Cache cache) {
+        if (!local) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // 回调运行在redisson线程上, 失效通知不能同步等待
+        return this.nearCache.evictAsync(localKey).thenRun(() -> this.putLocal(true, localKey, value, cache));
+    }
+
+    private Duration expiration(Cache cache, Object result) {
+        if (this.isNegative(result, cache)) {
+            return this.nullExpiration(cache);
+        }
+        return this.expiration(cache);
+    }
+
+    private Duration expiration(Cache cache) {
+        if (cache.expire() <= 0) {
+            return this.redisProperties.getCache().getExpirationTime();
+        }
+        ChronoUnit chronoUnit = DateUtils.convertToChronoUnit(cache.timeUnit());
+        return Duration.of(cache.expire(), chronoUnit);
+    }
+
+    // ---------------------------------------------------------------- negative
+
+    private boolean isHit(Object cached, Cache cache) {
+        if (cache.cacheNull()) {
+            return cached != null;
+        }
+        return ObjectUtils.isNotNullOrEmpty(CacheValue.unwrap(cached));
+    }
+
+    private boolean isNegative(Object result, Cache cache) {
+        return cache.cacheNull() && ObjectUtils.isNullOrEmpty(result);
+    }
+
+    private Duration nullExpiration(Cache cache) {
+        if (cache.nullTtl() <= 0) {
+            return this.redisProperties.getCache().getNullExpirationTime();
+        }
+        ChronoUnit chronoUnit = DateUtils.convertToChronoUnit(cache.timeUnit());
+        return Duration.of(cache.nullTtl(), chronoUnit);
+    }
+
+    // ---------------------------------------------------------------- early refresh
+
+    private boolean shouldRefresh(Object cached, Cache cache) {
+        return cached instanceof CacheValue value && value.shouldRefresh(cache.earlyRefreshBeta(), System.currentTimeMillis());
+    }
+
+    private Object wrap(Object result, Cache cache, long start, Duration expiration) {
+        if (this.isNegative(result, cache)) {
+            return result == null ? NullValue.INSTANCE : result;
+        }
+        if ((cache.earlyRefreshBeta() <= 0 && cache.refreshAfter() <= 0) || result == null) {
+            return result;
+        }
+        long now = System.currentTimeMillis();
+        return new CacheValue(result, now - start, now + expiration.toMillis());
+    }
+
+    // ---------------------------------------------------------------- refresh ahead
+
+    private boolean shouldRefreshAhead(Object cached, Cache cache) {
+        if (cache.refreshAfter() <= 0 || !(cached instanceof CacheValue value)) {
+            return false;
+        }
+        long writtenAt = value.getExpireAt() - this.expiration(cache).toMillis();
+        return System.currentTimeMillis() - writtenAt >= cache.timeUnit().toMillis(cache.refreshAfter());
+    }
+
+    /**
+     * 提交后台刷新, 调用方直接返回旧值
+     * <p>
+     * 本节点通过 {@code refreshing} 去重, 集群内通过以 {@code refreshAfter} 为有效期的租约去重,
+     * 刷新失败时旧值继续有效, 租约过期后再次尝试
+     */
+    private void refreshAhead(Cache cache, String localKey, SingleFlight.Loader loader) {
+        if (!this.refreshing.add(localKey)) {
+            return;
+        }
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    if (redissonClient.getBucket(this.getRefreshLeaseKey(localKey)).setIfAbsent(Boolean.TRUE, this.refreshLease(cache))) {
+                        loader.load();
+                    }
+                } catch (Throwable e) {
+                    log.warn("cache.refresh.failed, key: {}", localKey, e);
+                } finally {
+                    this.refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.refreshing.remove(localKey);
+        }
+    }
+
+    /**
+     * 异步方法的提前刷新, 租约和加载都是异步调用, 不占用刷新线程
+     */
+    private void refreshAheadAsync(Cache cache, String localKey, Supplier<CompletableFuture<Object>> loader) {
+        if (!this.refreshing.add(localKey)) {
+            return;
+        }
+        redissonClient.getBucket(this.getRefreshLeaseKey(localKey)).setIfAbsentAsync(Boolean.TRUE, this.refreshLease(cache))
+                .toCompletableFuture()
+                .thenCompose(acquired -> acquired ? loader.get() : CompletableFuture.completedFuture(null))
+                .whenComplete((result, e) -> {
+                    this.refreshing.remove(localKey);
+                    if (e != null) {
+                        log.warn("cache.refresh.failed, key: {}", localKey, e);
+                    }
+                });
+    }
+
+    private Duration refreshLease(Cache cache) {
+        return Duration.ofMillis(cache.timeUnit().toMillis(cache.refreshAfter()));
+    }
+
+    private ThreadPoolExecutor asyncLoadExecutor(RedisProperties.Cache cache) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                cache.getAsyncLoadThreads(),
+                cache.getAsyncLoadThreads(),
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(cache.getAsyncLoadQueueCapacity()),
+                new NamedThreadFactory("raiden-cache-async-load"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private ThreadPoolExecutor refreshExecutor(RedisProperties.Refresh refresh) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                refresh.getThreads(),
+                refresh.getThreads(),
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(refresh.getQueueCapacity()),
+                new NamedThreadFactory("raiden-cache-refresh"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // ---------------------------------------------------------------- local
+
+    private boolean isLocal(Cache cache) {
+        return this.nearCache != null && cache.local();
+    }
+
+    private void promote(boolean local, String localKey, Object value, Cache cache) {
+        if (local) {
+            this.nearCache.recordRemote(true);
+            this.putLocal(true, localKey, value, cache);
+        }
+    }
+
+    private void recordMiss(boolean local, String name, DataTypeEnum type) {
+        this.metrics().recordMiss(name, type);
+        if (local) {
+            this.nearCache.recordRemote(false);
+        }
+    }
+
+    private void putLocal(boolean local, String localKey, Object value, Cache cache) {
+        if (!local) {
+            return;
+        }
+        if (ObjectUtils.isNotNullOrEmpty(value)) {
+            long ttlMs = cache.localExpire() > 0 ? cache.timeUnit().toMillis(cache.localExpire()) : 0L;
+            this.nearCache.put(localKey, value, ttlMs);
+        } else if (cache.cacheNull()) {
+            this.nearCache.put(localKey, value == null ? NullValue.INSTANCE : value, this.nullExpiration(cache).toMillis());
+        }
+    }
+
+    private void onWrite(boolean local, String localKey, Object value, Cache cache) {
+        if (local) {
+            // 通知其他节点丢弃旧值, 再写入本地
+            this.nearCache.evict(localKey);
+            this.putLocal(true, localKey, value, cache);
+        }
+    }
+
+    /**
+     * 异步读写的缓存条目
+     */
+    private interface AsyncEntry {
+
+        String cacheKey();
+
+        String localKey();
+
+        CompletionStage<Object> get();
+
+        CompletionStage<?> set(Object value, Duration expiration);
+    }
+
+    private record BucketEntry(String cacheKey, String localKey, RBucket<Object> bucket) implements AsyncEntry {
+
+        @Override
+        public CompletionStage<Object> get() {
+            return this.bucket.getAsync();
+        }
+
+        @Override
+        public CompletionStage<?> set(Object value, Duration expiration) {
+            return this.bucket.setAsync(value, expiration);
+        }
+    }
+
+    private record HashEntry(String cacheKey, String localKey, String hashKey, RMapCache<String, Object> map) implements AsyncEntry {
+
+        @Override
+        public CompletionStage<Object> get() {
+            return this.map.getAsync(this.hashKey);
+        }
+
+        @Override
+        public CompletionStage<?> set(Object value, Duration expiration) {
+            return this.map.putAsync(this.hashKey, value, expiration.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
     @Override
     protected ParameterNameDiscoverer parameterNameDiscoverer() {
         return this.parameterNameDiscoverer;
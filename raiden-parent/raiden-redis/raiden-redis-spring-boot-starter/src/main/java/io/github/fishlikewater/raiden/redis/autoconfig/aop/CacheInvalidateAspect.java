@@ -17,6 +17,7 @@ package io.github.fishlikewater.raiden.redis.autoconfig.aop;
 
 import io.github.fishlikewater.raiden.redis.autoconfig.RedisProperties;
 import io.github.fishlikewater.raiden.redis.core.annotation.CacheInvalidate;
+import io.github.fishlikewater.raiden.redis.core.cache.NearCache;
 import io.github.fishlikewater.raiden.redis.core.enums.DataTypeEnum;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -28,7 +29,6 @@ import org.redisson.api.RedissonClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.EvaluationContext;
 
 import java.util.Objects;
 
@@ -51,10 +51,17 @@ public class CacheInvalidateAspect extends AbstractCacheAspect {
 
     private final ParameterNameDiscoverer parameterNameDiscoverer;
 
+    private final NearCache nearCache;
+
     public CacheInvalidateAspect(RedissonClient redissonClient, RedisProperties redisProperties, ParameterNameDiscoverer parameterNameDiscoverer) {
+        this(redissonClient, redisProperties, parameterNameDiscoverer, null);
+    }
+
+    public CacheInvalidateAspect(RedissonClient redissonClient, RedisProperties redisProperties, ParameterNameDiscoverer parameterNameDiscoverer, NearCache nearCache) {
         this.redissonClient = redissonClient;
         this.redisProperties = redisProperties;
         this.parameterNameDiscoverer = parameterNameDiscoverer;
+        this.nearCache = nearCache;
     }
 
     @Pointcut(value = "@annotation(io.github.fishlikewater.raiden.redis.core.annotation.CacheInvalidate)")
@@ -76,25 +83,32 @@ public class CacheInvalidateAspect extends AbstractCacheAspect {
     }
 
     private Object handleGeneral(ProceedingJoinPoint pjp, CacheInvalidate cacheInvalidate) throws Throwable {
-        String cacheKey = this.populateCacheKey(cacheInvalidate.key(), cacheInvalidate.prefix(), pjp);
+        String cacheKey = this.generateCacheKey(cacheInvalidate.key(), cacheInvalidate.prefix(), pjp);
         RBucket<Object> bucket = redissonClient.getBucket(cacheKey);
-        if (bucket.isExists()) {
-            bucket.delete();
+        if (bucket.isExists() && bucket.delete()) {
+            this.metrics().recordEviction(this.cacheName(cacheInvalidate.prefix()), DataTypeEnum.GENERAL);
         }
+        this.evictLocal(cacheKey);
         return pjp.proceed();
     }
 
     private Object cleanHash(ProceedingJoinPoint pjp, CacheInvalidate cache) throws Throwable {
-        EvaluationContext context = this.getContext(pjp);
-        String cacheKey = this.populateHashKey(cache.key(), context);
-        String hashKey = this.populateCacheKey(cache.hashKey(), null, pjp);
+        String cacheKey = this.generateCacheKey(cache.key(), cache.prefix(), pjp);
+        String hashKey = this.generateHashKey(cache.hashKey(), pjp);
         RMapCache<String, Object> map = redissonClient.getMapCache(cacheKey);
-        if (map.isExists()) {
-            map.remove(hashKey);
+        if (map.isExists() && map.remove(hashKey) != null) {
+            this.metrics().recordEviction(this.cacheName(cache.prefix()), DataTypeEnum.HASH);
         }
+        this.evictLocal(this.localKey(cacheKey, hashKey));
         return pjp.proceed();
     }
 
+    private void evictLocal(String localKey) {
+        if (this.nearCache != null) {
+            this.nearCache.evict(localKey);
+        }
+    }
+
     @Override
     protected ParameterNameDiscoverer parameterNameDiscoverer() {
         return this.parameterNameDiscoverer;
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.constant.CommonConstants;
+import io.github.fishlikewater.raiden.core.exception.RaidenExceptionCheck;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * {@code CacheKeyGenerator}
+ * 预编译的缓存key生成器, 每个方法的每个key表达式只解析一次
+ * <p>
+ * 按表达式形态选择生成方式:
+ * <ul>
+ *     <li>常量key: 直接返回拼好的字符串</li>
+ *     <li>{@code #arg}: 按参数下标取值, 不创建EvaluationContext, 与SpEL使用同一个ConversionService转为字符串</li>
+ *     <li>{@code #arg.field.field}: 通过缓存的getter取值, 无法处理时退回SpEL</li>
+ *     <li>其他表达式: SpEL编译模式(MIXED)求值</li>
+ * </ul>
+ * 前缀在创建时拼好, 生成时只做一次字符串拼接
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class CacheKeyGenerator {
+
+    private static final Pattern PROPERTY_PATH = Pattern.compile("#[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CacheKeyGenerator.class.getClassLoader()));
+
+    private static final Object UNRESOLVED = new Object();
+
+    /**
+     * 与 {@code StandardEvaluationContext} 默认的类型转换一致, 集合/数组转为逗号分隔的字符串
+     */
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    private final String prefix;
+
+    private final String constant;
+
+    private final int index;
+
+    private final String[] properties;
+
+    private final Map<Class<?>, Optional<Method>>[] getters;
+
+    private final String[] parameterNames;
+
+    private final Expression expression;
+
+    @SuppressWarnings("unchecked")
+    private CacheKeyGenerator(String prefix, String key, String[] parameterNames) {
+        this.prefix = prefix;
+        this.parameterNames = parameterNames;
+        if (!key.startsWith(CommonConstants.Symbol.SYMBOL_EXPRESSION)) {
+            this.constant = prefix + key;
+            this.index = -1;
+            this.properties = null;
+            this.getters = null;
+            this.expression = null;
+            return;
+        }
+        this.constant = null;
+        this.expression = PARSER.parseExpression(key);
+        int found = -1;
+        String[] path = null;
+        if (PROPERTY_PATH.matcher(key).matches()) {
+            String[] segments = key.substring(1).split("\\.");
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i].equals(segments[0])) {
+                    found = i;
+                    break;
+                }
+            }
+            if (segments.length > 1) {
+                path = new String[segments.length - 1];
+                System.arraycopy(segments, 1, path, 0, path.length);
+            }
+        }
+        this.index = found;
+        this.properties = path;
+        this.getters = path == null ? null : new Map[path.length];
+        if (path != null) {
+            for (int i = 0; i < path.length; i++) {
+                this.getters[i] = new ConcurrentHashMap<>(4);
+            }
+        }
+    }
+
+    /**
+     * 创建key生成器
+     *
+     * @param prefix         前缀, 为空时不拼接
+     * @param key            key, 以 {@code #} 开头时作为SpEL表达式
+     * @param parameterNames 方法参数名称
+     * @return key生成器
+     */
+    static CacheKeyGenerator compile(String prefix, String key, String[] parameterNames) {
+        RaidenExceptionCheck.INSTANCE.isNotNull(key, "key.is.not.found");
+        if (key.startsWith(CommonConstants.Symbol.SYMBOL_EXPRESSION) && parameterNames == null) {
+            return RaidenExceptionCheck.INSTANCE.throwUnchecked("args.is.null");
+        }
+        String head = StringUtils.isNotBlank(prefix) ? prefix + ":" : "";
+        return new CacheKeyGenerator(head, key, parameterNames == null ? new String[0] : parameterNames);
+    }
+
+    /**
+     * 生成key
+     *
+     * @param args 方法参数, 顺序与创建时的参数名称一致
+     * @return key
+     */
+    String generate(Object[] args) {
+        if (constant != null) {
+            return constant;
+        }
+        if (index >= 0) {
+            Object value = this.resolve(args[index]);
+            if (value != UNRESOLVED) {
+                return prefix + toKey(value);
+            }
+        }
+        return prefix + this.evaluate(args, String.class);
+    }
+
+    /**
+     * 求表达式的值, 不做字符串转换, 创建时应不带前缀
+     *
+     * @param args 方法参数, 顺序与创建时的参数名称一致
+     * @return 表达式的值
+     */
+    Object value(Object[] args) {
+        if (constant != null) {
+            return constant;
+        }
+        if (index >= 0) {
+            Object value = this.resolve(args[index]);
+            if (value != UNRESOLVED) {
+                return value;
+            }
+        }
+        return this.evaluate(args, Object.class);
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private Object resolve(Object value) {
+        if (properties == null) {
+            return value;
+        }
+        for (int i = 0; i < properties.length; i++) {
+            if (value == null) {
+                return UNRESOLVED;
+            }
+            String property = properties[i];
+            Optional<Method> getter = getters[i].computeIfAbsent(value.getClass(), type -> findGetter(type, property));
+            if (getter.isEmpty()) {
+                return UNRESOLVED;
+            }
+            try {
+                value = getter.get().invoke(value);
+            } catch (ReflectiveOperationException e) {
+                return UNRESOLVED;
+            }
+        }
+        return value;
+    }
+
+    private <T> T evaluate(Object[] args, Class<T> type) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return expression.getValue(context, type);
+    }
+
+    private static String toKey(Object value) {
+        return CONVERSION_SERVICE.convert(value, String.class);
+    }
+
+    private static Optional<Method> findGetter(Class<?> type, String property) {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String name : new String[]{"get" + suffix, "is" + suffix}) {
+            try {
+                Method method = type.getMethod(name);
+                if (method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers()) || !method.trySetAccessible()) {
+                    continue;
+                }
+                return Optional.of(method);
+            } catch (NoSuchMethodException ignored) {
+                // 尝试下一个
+            }
+        }
+        // 交由SpEL处理
+        return Optional.empty();
+    }
+}
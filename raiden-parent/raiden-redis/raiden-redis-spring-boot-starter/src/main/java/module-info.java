@@ -32,6 +32,8 @@ module raiden.redis.spring.boot.starter {
     requires spring.boot.autoconfigure;
     requires org.aspectj.weaver;
     requires spring.expression;
+    requires static micrometer.core;
+    requires static reactor.core;
 
     exports io.github.fishlikewater.raiden.redis.autoconfig;
     exports io.github.fishlikewater.raiden.redis.autoconfig.aop;
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.redis.autoconfig.RedisProperties;
+import io.github.fishlikewater.raiden.redis.core.annotation.BatchCache;
+import io.github.fishlikewater.raiden.redis.core.cache.NullValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code BatchCacheAspectTest}
+ * 批量缓存切面, 使用内存中的RedissonClient, 不需要redis
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class BatchCacheAspectTest {
+
+    private Map<String, Object> store;
+
+    private UserService target;
+
+    private UserService userService;
+
+    @Before
+    public void init() {
+        final RedisProperties.Cache cache = new RedisProperties.Cache();
+        cache.setEnabled(true);
+        cache.setExpirationTime(Duration.ofMinutes(1));
+        final RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setCache(cache);
+        this.store = new ConcurrentHashMap<>();
+        this.target = new UserService();
+        final AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new BatchCacheAspect(MemoryRedissonClient.create(store), redisProperties, new DefaultParameterNameDiscoverer()));
+        this.userService = factory.getProxy();
+    }
+
+    @Test
+    public void testMissingSubset() {
+        Assert.assertEquals(List.of(new User(2L)), userService.findByIds(List.of(2L)));
+
+        // 只用未命中且去重后的元素调用方法, 顺序与首次出现一致
+        final List<User> users = userService.findByIds(List.of(3L, 1L, 2L, 3L));
+        Assert.assertEquals(List.of(List.of(2L), List.of(3L, 1L)), target.calls);
+        // 结果按入参顺序组装, 重复的元素按出现次数保留
+        Assert.assertEquals(List.of(new User(3L), new User(1L), new User(2L), new User(3L)), users);
+
+        // 全部命中时不再调用方法
+        Assert.assertEquals(List.of(new User(1L), new User(2L)), userService.findByIds(List.of(1L, 2L)));
+        Assert.assertEquals(2, target.calls.size());
+        System.out.println(StringUtils.format("calls: {}", target.calls));
+    }
+
+    @Test
+    public void testMapResult() {
+        Assert.assertEquals(Map.of(5L, new User(5L)), userService.findMap(new LinkedHashSet<>(List.of(5L))));
+        final Map<Long, User> users = userService.findMap(new LinkedHashSet<>(List.of(6L, 5L, 4L)));
+        Assert.assertEquals(List.of(List.of(5L), List.of(6L, 4L)), target.calls);
+        Assert.assertEquals(List.of(6L, 5L, 4L), new ArrayList<>(users.keySet()));
+        Assert.assertEquals(new User(4L), users.get(4L));
+
+        // Map与List结果写入同一个缓存key, 可以互相命中
+        Assert.assertEquals(List.of(new User(4L), new User(6L)), userService.findByIds(List.of(4L, 6L)));
+        Assert.assertEquals(2, target.calls.size());
+    }
+
+    @Test
+    public void testCacheNull() {
+        // 方法未返回的元素写入空值占位, 组装结果时同样不出现
+        Assert.assertEquals(List.of(new User(1L)), userService.findExisting(List.of(1L, 404L)));
+        Assert.assertSame(NullValue.INSTANCE, store.get("raiden:test:batch:404"));
+        Assert.assertEquals(List.of(new User(1L)), userService.findExisting(List.of(404L, 1L)));
+        Assert.assertEquals(1, target.calls.size());
+
+        // 未开启cacheNull时不写占位, 每次都回源
+        Assert.assertEquals(List.of(), userService.findByIds(List.of(404L)));
+        Assert.assertEquals(List.of(), userService.findByIds(List.of(404L)));
+        Assert.assertEquals(3, target.calls.size());
+    }
+
+    @Test
+    public void testEmptyValue() {
+        // 未开启cacheNull时空集合与CacheAspect一样不算命中
+        Assert.assertEquals(Map.of(7L, List.of()), userService.findTags(List.of(7L)));
+        Assert.assertEquals(Map.of(7L, List.of()), userService.findTags(List.of(7L)));
+        Assert.assertEquals(2, target.calls.size());
+    }
+
+    public static class UserService {
+
+        private final List<List<Long>> calls = new ArrayList<>();
+
+        @BatchCache(prefix = "raiden:test:batch", resultKey = "#item.id")
+        public List<User> findByIds(List<Long> ids) {
+            calls.add(new ArrayList<>(ids));
+            final List<User> users = new ArrayList<>();
+            for (Long id : ids) {
+                if (id < 100) {
+                    users.add(new User(id));
+                }
+            }
+            return users;
+        }
+
+        @BatchCache(prefix = "raiden:test:batch")
+        public Map<Long, User> findMap(Set<Long> ids) {
+            calls.add(new ArrayList<>(ids));
+            final Map<Long, User> users = new LinkedHashMap<>();
+            // 返回顺序与入参不同
+            final List<Long> reversed = new ArrayList<>(ids);
+            for (int i = reversed.size() - 1; i >= 0; i--) {
+                users.put(reversed.get(i), new User(reversed.get(i)));
+            }
+            return users;
+        }
+
+        @BatchCache(prefix = "raiden:test:batch", resultKey = "#item.id", cacheNull = true)
+        public List<User> findExisting(Collection<Long> ids) {
+            return this.findByIds(new ArrayList<>(ids));
+        }
+
+        @BatchCache(prefix = "raiden:test:batch:tags")
+        public Map<Long, List<String>> findTags(List<Long> ids) {
+            calls.add(new ArrayList<>(ids));
+            final Map<Long, List<String>> tags = new LinkedHashMap<>();
+            for (Long id : ids) {
+                tags.put(id, List.of());
+            }
+            return tags;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class User {
+
+        private Long id;
+    }
+}
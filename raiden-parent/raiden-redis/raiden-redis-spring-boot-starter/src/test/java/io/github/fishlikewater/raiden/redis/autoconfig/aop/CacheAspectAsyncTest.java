@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.redis.autoconfig.RedisProperties;
+import io.github.fishlikewater.raiden.redis.core.RedissonPatternCfg;
+import io.github.fishlikewater.raiden.redis.core.RedissonUtils;
+import io.github.fishlikewater.raiden.redis.core.annotation.Cache;
+import io.github.fishlikewater.raiden.redis.core.enums.ServerPattern;
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code CacheAspectAsyncTest}
+ * 异步缓存方法回源, 除回源队列测试外需要本地redis
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class CacheAspectAsyncTest {
+
+    @Test
+    public void testSyncRedisCallInLoader() throws Exception {
+        final RedissonClient redissonClient = getRedissonClient();
+        final CacheAspect aspect = new CacheAspect(redissonClient, this.redisProperties(), new DefaultParameterNameDiscoverer());
+        final UserService target = new UserService(redissonClient);
+        final AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        final UserService userService = factory.getProxy();
+        try {
+            final String id = UUID.randomUUID().toString();
+            // 方法体内的同步redis调用不能运行在redisson的事件循环线程上
+            Assert.assertEquals("user-" + id, userService.find(id).get(10, TimeUnit.SECONDS));
+            Assert.assertTrue(target.loadThread.startsWith("raiden-cache-async-load"));
+            Assert.assertEquals(id, redissonClient.getBucket(UserService.SOURCE + id).get());
+
+            // 第二次命中缓存, 不再回源
+            Assert.assertEquals("user-" + id, userService.find(id).get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(1, target.loads.get());
+            System.out.println(StringUtils.format("load thread: {}", target.loadThread));
+        } finally {
+            aspect.close();
+            redissonClient.shutdown();
+        }
+    }
+
+    @Test
+    public void testLoadQueueFull() throws Exception {
+        final RedisProperties redisProperties = this.redisProperties();
+        redisProperties.getCache().setAsyncLoadThreads(1);
+        redisProperties.getCache().setAsyncLoadQueueCapacity(1);
+        final CacheAspect aspect = new CacheAspect(MemoryRedissonClient.create(new ConcurrentHashMap<>()), redisProperties, new DefaultParameterNameDiscoverer());
+        final SlowService target = new SlowService();
+        final AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        final SlowService slowService = factory.getProxy();
+        try {
+            // 1个回源执行中, 1个排队, 第3个被拒绝
+            final CompletableFuture<String> running = slowService.find("1");
+            final CompletableFuture<String> queued = slowService.find("2");
+            final CompletableFuture<String> rejected = slowService.find("3");
+            try {
+                rejected.get(10, TimeUnit.SECONDS);
+                Assert.fail("expected rejected load");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+            target.release.countDown();
+            Assert.assertEquals("user-1", running.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals("user-2", queued.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(2, target.loads.get());
+        } finally {
+            target.release.countDown();
+            aspect.close();
+        }
+    }
+
+    private RedisProperties redisProperties() {
+        final RedisProperties.Cache cache = new RedisProperties.Cache();
+        cache.setEnabled(true);
+        cache.setExpirationTime(Duration.ofMinutes(1));
+        final RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setCache(cache);
+        return redisProperties;
+    }
+
+    private static RedissonClient getRedissonClient() {
+        final RedissonPatternCfg cfg = new RedissonPatternCfg();
+        RedissonPatternCfg.Single single = new RedissonPatternCfg.Single();
+        cfg.setSingle(single);
+        cfg.setServerPattern(ServerPattern.SINGLE);
+        cfg.getSingle().setAddress("redis://127.0.0.1:6379");
+        cfg.getSingle().setDatabase(2);
+        return RedissonUtils.redissonClient(cfg);
+    }
+
+    public static class SlowService {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Cache(prefix = "raiden:test:async:slow", key = "#id", expire = 60)
+        public CompletableFuture<String> find(String id) throws InterruptedException {
+            this.loads.incrementAndGet();
+            this.release.await(10, TimeUnit.SECONDS);
+            return CompletableFuture.completedFuture("user-" + id);
+        }
+    }
+
+    public static class UserService {
+
+        static final String SOURCE = "raiden:test:async:source:";
+
+        private final RedissonClient redissonClient;
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private volatile String loadThread;
+
+        public UserService(RedissonClient redissonClient) {
+            this.redissonClient = redissonClient;
+        }
+
+        @Cache(prefix = "raiden:test:async", key = "#id", expire = 60)
+        public CompletableFuture<String> find(String id) {
+            this.loads.incrementAndGet();
+            this.loadThread = Thread.currentThread().getName();
+            this.redissonClient.getBucket(SOURCE + id).set(id, Duration.ofMinutes(1));
+            return CompletableFuture.completedFuture("user-" + id);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import io.github.fishlikewater.raiden.redis.autoconfig.RedisProperties;
+import io.github.fishlikewater.raiden.redis.core.annotation.CacheInvalidate;
+import io.github.fishlikewater.raiden.redis.core.enums.DataTypeEnum;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code CacheInvalidateAspectTest}
+ * 清理缓存切面, 使用内存中的RedissonClient, 不需要redis
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class CacheInvalidateAspectTest {
+
+    @Test
+    public void testCleanHash() {
+        final Map<String, Object> store = new ConcurrentHashMap<>();
+        final Map<String, Object> users = new ConcurrentHashMap<>(Map.of("7", "user-7", "8", "user-8"));
+        store.put("raiden:test:user:t1", users);
+        store.put("raiden:test:user:t1:7", "general-7");
+        final UserService userService = this.proxy(store);
+
+        // 带前缀的key定位hash, hashKey定位其中的字段
+        userService.removeField("t1", 7L);
+        Assert.assertEquals(Map.of("8", "user-8"), users);
+        Assert.assertEquals("general-7", store.get("raiden:test:user:t1:7"));
+
+        userService.remove("t1", 7L);
+        Assert.assertFalse(store.containsKey("raiden:test:user:t1:7"));
+        Assert.assertEquals(Map.of("8", "user-8"), users);
+    }
+
+    private UserService proxy(Map<String, Object> store) {
+        final RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setCache(new RedisProperties.Cache());
+        final AspectJProxyFactory factory = new AspectJProxyFactory(new UserService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CacheInvalidateAspect(MemoryRedissonClient.create(store), redisProperties, new DefaultParameterNameDiscoverer()));
+        return factory.getProxy();
+    }
+
+    public static class UserService {
+
+        @CacheInvalidate(prefix = "raiden:test:user", key = "#tenant", hashKey = "#id", type = DataTypeEnum.HASH)
+        public void removeField(String tenant, Long id) {
+        }
+
+        @CacheInvalidate(prefix = "raiden:test:user", key = "#tenant + ':' + #id")
+        public void remove(String tenant, Long id) {
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.spring.boot.raiden.core.ExpressionUtils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code CacheKeyGeneratorTest}
+ * 预编译key生成器与SpEL求值生成的key一致
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class CacheKeyGeneratorTest {
+
+    private static final String[] PARAMETER_NAMES = {"id", "query"};
+
+    @Test
+    public void testArgument() {
+        final Object[] values = {
+                "user", 1, 2L, 3.5D, true, 'c', TimeUnit.SECONDS, null,
+                List.of(1, 2, 3), new LinkedHashSet<>(List.of("a", "b")), List.of(TimeUnit.SECONDS, TimeUnit.MINUTES),
+                new int[]{1, 2, 3}, new String[]{"a", "b"}, new Object[0]
+        };
+        for (Object value : values) {
+            this.assertSameKey("#id", value, null);
+        }
+    }
+
+    @Test
+    public void testProperty() {
+        final Query query = new Query("zhangxiang", List.of(1L, 2L), new String[]{"x", "y"}, TimeUnit.HOURS, true);
+        for (String key : new String[]{"#query.name", "#query.ids", "#query.tags", "#query.unit", "#query.active", "#query.name.length"}) {
+            this.assertSameKey(key, 1, query);
+        }
+        // 不含表达式的key与非属性路径表达式
+        this.assertSameKey("constant", 1, query);
+        this.assertSameKey("#id + ':' + #query.name", 1, query);
+    }
+
+    private void assertSameKey(String key, Object id, Query query) {
+        final Object[] args = {id, query};
+        final String generated = CacheKeyGenerator.compile("user", key, PARAMETER_NAMES).generate(args);
+        final String expected = "user:" + this.spel(key, args);
+        System.out.println(StringUtils.format("{} -> {}", key, generated));
+        Assert.assertEquals(expected, generated);
+    }
+
+    private String spel(String key, Object[] args) {
+        if (!key.startsWith("#")) {
+            return key;
+        }
+        final StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < PARAMETER_NAMES.length; i++) {
+            context.setVariable(PARAMETER_NAMES[i], args[i]);
+        }
+        return ExpressionUtils.getExpressionValue(context, key, String.class);
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Query {
+
+        private String name;
+
+        private List<Long> ids;
+
+        private String[] tags;
+
+        private TimeUnit unit;
+
+        private boolean active;
+    }
+}
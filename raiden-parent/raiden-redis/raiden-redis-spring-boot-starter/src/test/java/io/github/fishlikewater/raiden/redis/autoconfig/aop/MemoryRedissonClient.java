@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.autoconfig.aop;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RBuckets;
+import org.redisson.api.RLock;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * {@code MemoryRedissonClient}
+ * 内存中的RedissonClient, 只实现缓存切面用到的bucket、hash、批量读写和异步锁, 不需要redis
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class MemoryRedissonClient {
+
+    private MemoryRedissonClient() {
+    }
+
+    /**
+     * @param store 缓存数据, key为redis key
+     * @return RedissonClient
+     */
+    static RedissonClient create(Map<String, Object> store) {
+        return proxy(RedissonClient.class, (method, args) -> switch (method.getName()) {
+            case "getBucket" -> bucket(RBucket.class, store, (String) args[0]);
+            case "getBuckets" -> proxy(RBuckets.class, (bucketsMethod, keys) -> {
+                final Map<String, Object> values = new LinkedHashMap<>();
+                for (String key : (String[]) keys[0]) {
+                    if (store.containsKey(key)) {
+                        values.put(key, store.get(key));
+                    }
+                }
+                return values;
+            });
+            case "createBatch" -> proxy(RBatch.class, (batchMethod, batchArgs) -> switch (batchMethod.getName()) {
+                case "getBucket" -> bucket(RBucketAsync.class, store, (String) batchArgs[0]);
+                case "execute" -> null;
+                default -> throw new UnsupportedOperationException(batchMethod.getName());
+            });
+            case "getMapCache" -> mapCache(store, (String) args[0]);
+            case "getLock" -> proxy(RLock.class, (lockMethod, lockArgs) -> switch (lockMethod.getName()) {
+                case "tryLockAsync" -> new CompletableFutureWrapper<>(true);
+                case "unlockAsync" -> new CompletableFutureWrapper<>((Void) null);
+                default -> throw new UnsupportedOperationException(lockMethod.getName());
+            });
+            case "shutdown" -> null;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static <T> T bucket(Class<T> type, Map<String, Object> store, String name) {
+        return proxy(type, (method, args) -> switch (method.getName()) {
+            case "get" -> store.get(name);
+            case "isExists" -> store.containsKey(name);
+            case "delete" -> store.remove(name) != null;
+            case "getAsync" -> new CompletableFutureWrapper<>(store.get(name));
+            case "setAsync" -> {
+                store.put(name, args[0]);
+                yield new CompletableFutureWrapper<>((Void) null);
+            }
+            case "setIfAbsentAsync" -> new CompletableFutureWrapper<>(store.putIfAbsent(name, args[0]) == null);
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RMapCache<String, Object> mapCache(Map<String, Object> store, String name) {
+        return proxy(RMapCache.class, (method, args) -> {
+            final Map<String, Object> map = (Map<String, Object>) store.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+            return switch (method.getName()) {
+                case "isExists" -> !map.isEmpty();
+                case "get" -> map.get((String) args[0]);
+                case "getAsync" -> new CompletableFutureWrapper<>(map.get((String) args[0]));
+                case "remove" -> map.remove((String) args[0]);
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, BiFunction<Method, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName();
+                };
+            }
+            return handler.apply(method, args);
+        });
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.github.fishlikewater.raiden.redis.core;
 
+import io.github.fishlikewater.raiden.redis.core.codec.CodecFactory;
+import io.github.fishlikewater.raiden.redis.core.enums.CompressionEnum;
 import io.github.fishlikewater.raiden.redis.core.enums.ServerPattern;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -60,6 +62,11 @@ public class RedissonPatternCfg implements Serializable {
      */
     private Codec codec;
 
+    /**
+     * 序列化配置, 未指定 {@link #codec} 时生效
+     */
+    private Serialization serialization = new Serialization();
+
     @Data
     @EqualsAndHashCode(callSuper = true)
     public static class Cluster extends ClusterServersConfig implements Serializable {
@@ -92,6 +99,30 @@ public class RedissonPatternCfg implements Serializable {
         private static final long serialVersionUID = -8755746104156339625L;
     }
 
+    @Data
+    public static class Serialization implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = -2386406421775917062L;
+
+        /**
+         * 编码类型: json/smile/cbor/kryo, 或 {@code CodecProvider} 扩展的名称
+         * <p>
+         * 已有数据按原编码写入, 更换编码类型前需要清空缓存, 否则旧数据无法解码
+         */
+        private String type = CodecFactory.JSON;
+
+        /**
+         * 压缩算法, 从 {@code NONE} 开启压缩时旧数据仍可读取, 关闭压缩、更换压缩算法或编码类型前需要清空缓存
+         */
+        private CompressionEnum compression = CompressionEnum.NONE;
+
+        /**
+         * 压缩阈值(字节), 序列化后达到该大小才压缩
+         */
+        private int compressThreshold = 1024;
+    }
+
     @Data
     public static class Single implements Serializable {
 
@@ -16,6 +16,7 @@
 package io.github.fishlikewater.raiden.redis.core;
 
 import io.github.fishlikewater.raiden.core.ObjectUtils;
+import io.github.fishlikewater.raiden.redis.core.codec.CodecFactory;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.codec.JsonJacksonCodec;
@@ -106,7 +107,12 @@ public class RedissonUtils {
 
     private static void codec(RedissonConfig config, RedissonPatternCfg cfg) {
         if (ObjectUtils.isNullOrEmpty(cfg.getCodec())) {
-            config.setCodec(new JsonJacksonCodec());
+            RedissonPatternCfg.Serialization serialization = cfg.getSerialization();
+            if (ObjectUtils.isNullOrEmpty(serialization)) {
+                config.setCodec(new JsonJacksonCodec());
+                return;
+            }
+            config.setCodec(CodecFactory.create(serialization.getType(), serialization.getCompression(), serialization.getCompressThreshold()));
         } else {
             config.setCodec(cfg.getCodec());
         }
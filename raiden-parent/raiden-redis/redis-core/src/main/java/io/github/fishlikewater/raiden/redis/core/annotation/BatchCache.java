@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BatchCache}
+ * 批量缓存, 适用于按id集合查询的方法, 例如 {@code List<User> findByIds(Collection<Long> ids)}
+ * <p>
+ * 集合参数中的每个元素对应一个缓存key, 一次MGET读取全部缓存, 只用未命中的元素调用方法,
+ * 加载结果通过一次pipeline写回; 返回值按入参顺序重新组装, 返回 {@code List} 时重复的元素按出现次数保留. 方法返回值支持 {@code List}/{@code Collection}/{@code Map}
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BatchCache {
+
+    String prefix() default "";
+
+    /**
+     * 集合参数名称, 为空时取第一个集合类型的参数
+     */
+    String param() default "";
+
+    /**
+     * 单个元素的缓存key, SpEL表达式, {@code #item} 为集合中的元素
+     */
+    String key() default "#item";
+
+    /**
+     * 返回值为集合时, 从结果元素中取出对应入参元素的SpEL表达式, {@code #item} 为结果元素, 例如 {@code #item.id};
+     * 返回值为 {@code Map} 时使用其key, 无需配置
+     */
+    String resultKey() default "";
+
+    long expire() default 0L;
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 是否缓存方法未返回的元素, 防止不存在的id反复穿透到数据库, 组装结果时这些元素同样不出现
+     */
+    boolean cacheNull() default false;
+
+    /**
+     * 未返回元素的存活时间, 单位同 {@link #timeUnit()}, 小于等于0时使用全局配置
+     */
+    long nullTtl() default 0L;
+}
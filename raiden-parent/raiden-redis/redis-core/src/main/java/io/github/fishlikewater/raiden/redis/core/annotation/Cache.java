@@ -43,4 +43,39 @@ public @interface Cache {
     long expire() default 0L;
 
     TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 是否启用本地缓存(L1), 需开启 raiden.redis.cache.local.enabled
+     */
+    boolean local() default false;
+
+    /**
+     * 本地缓存存活时间, 单位同 {@link #timeUnit()}, 小于等于0时使用全局配置
+     */
+    long localExpire() default 0L;
+
+    /**
+     * XFetch 提前刷新系数, 大于0时在过期前按概率提前重新加载, 通常取1
+     */
+    double earlyRefreshBeta() default 0D;
+
+    /**
+     * 写入后超过该时间的读取直接返回旧值, 并在后台重新加载一次, 单位同 {@link #timeUnit()}, 小于等于0时不启用
+     * <p>
+     * 应小于过期时间, 集群内同一key同一时间只有一个节点重新加载
+     * <p>
+     * 重新加载在后台线程中调用方法, 不会带上触发读取的线程上下文: 事务、安全上下文、MDC等基于ThreadLocal的状态都不可用,
+     * 依赖这些上下文的方法不应开启
+     */
+    long refreshAfter() default 0L;
+
+    /**
+     * 是否缓存null及空结果(空集合、空字符串等), 防止不存在的数据反复穿透到数据库
+     */
+    boolean cacheNull() default false;
+
+    /**
+     * 空结果的存活时间, 单位同 {@link #timeUnit()}, 小于等于0时使用全局配置
+     */
+    long nullTtl() default 0L;
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.cache;
+
+import io.github.fishlikewater.raiden.redis.core.enums.DataTypeEnum;
+
+/**
+ * {@code CacheMetrics}
+ * 缓存指标记录, 默认不记录
+ * <p>
+ * {@code name} 为缓存前缀, 未配置前缀时为空字符串
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public interface CacheMetrics {
+
+    CacheMetrics NOOP = new CacheMetrics() {
+    };
+
+    /**
+     * 记录一次命中
+     *
+     * @param name  缓存名称
+     * @param type  数据类型
+     * @param local 是否命中本地缓存(L1)
+     */
+    default void recordHit(String name, DataTypeEnum type, boolean local) {
+    }
+
+    /**
+     * 记录一次未命中
+     *
+     * @param name 缓存名称
+     * @param type 数据类型
+     */
+    default void recordMiss(String name, DataTypeEnum type) {
+    }
+
+    /**
+     * 记录一次回源加载
+     *
+     * @param name          缓存名称
+     * @param type          数据类型
+     * @param durationNanos 耗时(纳秒)
+     * @param success       是否成功, 方法抛出异常时为false
+     */
+    default void recordLoad(String name, DataTypeEnum type, long durationNanos, boolean success) {
+    }
+
+    /**
+     * 记录一次主动失效
+     *
+     * @param name 缓存名称
+     * @param type 数据类型
+     */
+    default void recordEviction(String name, DataTypeEnum type) {
+    }
+
+    /**
+     * 记录一次redis读取耗时
+     *
+     * @param name          缓存名称
+     * @param type          数据类型
+     * @param durationNanos 耗时(纳秒)
+     */
+    default void recordGet(String name, DataTypeEnum type, long durationNanos) {
+    }
+
+    /**
+     * 记录一次等待加载锁的耗时
+     *
+     * @param name          缓存名称
+     * @param type          数据类型
+     * @param durationNanos 耗时(纳秒)
+     */
+    default void recordLockWait(String name, DataTypeEnum type, long durationNanos) {
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code CacheValue}
+ * 带加载元数据的缓存值, 用于提前刷新
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheValue implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4807361529470175223L;
+
+    /**
+     * 缓存值
+     */
+    private Object value;
+
+    /**
+     * 上次加载耗时(毫秒)
+     */
+    private long delta;
+
+    /**
+     * 过期时间戳(毫秒)
+     */
+    private long expireAt;
+
+    /**
+     * XFetch 概率提前刷新: {@code now - delta * beta * ln(rand) >= expireAt} 时需要刷新
+     * <p>
+     * 加载越慢、越接近过期, 刷新概率越高; beta大于1更倾向提前, 小于1更倾向推迟
+     *
+     * @param beta 提前系数, 小于等于0表示不提前刷新
+     * @param now  当前时间戳(毫秒)
+     * @return 是否需要刷新
+     */
+    public boolean shouldRefresh(double beta, long now) {
+        if (beta <= 0) {
+            return false;
+        }
+        final double gap = -delta * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return now + gap >= expireAt;
+    }
+
+    /**
+     * 取出真实缓存值, 空值占位还原为null
+     *
+     * @param cached 缓存中读取的对象
+     * @return 缓存值
+     */
+    public static Object unwrap(Object cached) {
+        final Object value = cached instanceof CacheValue wrapper ? wrapper.getValue() : cached;
+        return value instanceof NullValue ? null : value;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.cache;
+
+/**
+ * {@code FrequencySketch}
+ * 4位计数的 Count-Min Sketch, 记录key的近期访问频率, 用于 TinyLFU 准入判断
+ * <p>
+ * 每个long存放16个计数器, 一个key用4个种子分别哈希到4个long(可能重合), 在第i个long中取第 {@code start + i} 个计数器,
+ * {@code start} 由哈希低2位决定; 频率取这4个计数器的最小值.
+ * 累计次数达到采样上限后所有计数减半, 让频率随时间衰减. 非线程安全, 由调用方加锁
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class FrequencySketch {
+
+    private static final long[] SEED = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+
+    private final int tableMask;
+
+    private final long sampleSize;
+
+    private long size;
+
+    FrequencySketch(long maximumSize) {
+        final int capacity = (int) Math.min(1 << 30, Math.max(16, Long.highestOneBit(Math.max(1, maximumSize) - 1) << 1));
+        this.table = new long[capacity];
+        this.tableMask = capacity - 1;
+        this.sampleSize = 10L * Math.max(1, maximumSize);
+    }
+
+    /**
+     * 估计的访问频率, 最大为15
+     *
+     * @param hashCode key的哈希
+     * @return 频率
+     */
+    int frequency(int hashCode) {
+        final int hash = spread(hashCode);
+        final int start = (hash & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < 4; i++) {
+            final int index = this.indexOf(hash, i);
+            final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * 访问频率加1
+     *
+     * @param hashCode key的哈希
+     */
+    void increment(int hashCode) {
+        final int hash = spread(hashCode);
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= this.incrementAt(this.indexOf(hash, i), start + i);
+        }
+        if (added && ++size >= sampleSize) {
+            this.reset();
+        }
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEED[i]) * SEED[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code LocalCache}
+ * 有界本地缓存(L1), 采用 W-TinyLFU 淘汰策略
+ * <p>
+ * 新数据先进入占容量1%的窗口LRU, 窗口溢出时与主区域(SLRU: 试用区 + 80%保护区)的淘汰候选按访问频率比较,
+ * 频率更高者留下. 扫描型访问只会冲刷窗口, 不会挤掉热点数据
+ * <p>
+ * 读操作无锁, 访问顺序的调整使用 tryLock, 竞争激烈时允许丢失少量重排; 写操作与淘汰在同一把锁内完成.
+ * 过期数据在读取时惰性删除
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class LocalCache<K, V> {
+
+    private static final byte WINDOW = 0;
+
+    private static final byte PROBATION = 1;
+
+    private static final byte PROTECTED = 2;
+
+    private static final byte REMOVED = 3;
+
+    private final Map<K, Node<K, V>> data;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final FrequencySketch sketch;
+
+    private final Deque<K, V> window = new Deque<>();
+
+    private final Deque<K, V> probation = new Deque<>();
+
+    private final Deque<K, V> protect = new Deque<>();
+
+    private final long maximumSize;
+
+    private final long maxWindow;
+
+    private final long maxMain;
+
+    private final long maxProtected;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public LocalCache(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.maxWindow = Math.max(1, maximumSize / 100);
+        this.maxMain = maximumSize - maxWindow;
+        this.maxProtected = (long) (maxMain * 0.8);
+        this.sketch = new FrequencySketch(maximumSize);
+        this.data = new ConcurrentHashMap<>((int) Math.min(maximumSize, 1 << 16));
+    }
+
+    /**
+     * 读取缓存, 未命中或已过期返回null
+     *
+     * @param key 缓存key
+     * @return 缓存值
+     */
+    public V get(K key) {
+        final Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (node.isExpired(System.nanoTime())) {
+            this.remove(node);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (lock.tryLock()) {
+            try {
+                this.onAccess(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * 写入缓存
+     *
+     * @param key   缓存key
+     * @param value 缓存值, 不能为null
+     * @param ttlMs 存活时间(毫秒), 小于等于0表示不过期
+     */
+    public void put(K key, V value, long ttlMs) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        final long expireAt = ttlMs > 0 ? System.nanoTime() + ttlMs * 1_000_000L : 0L;
+        lock.lock();
+        try {
+            final Node<K, V> existing = data.get(key);
+            if (existing != null) {
+                existing.value = value;
+                existing.expireAt = expireAt;
+                this.onAccess(existing);
+                return;
+            }
+            final Node<K, V> node = new Node<>(key, value, expireAt);
+            data.put(key, node);
+            sketch.increment(key.hashCode());
+            node.queue = WINDOW;
+            window.addFirst(node);
+            this.evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 删除缓存
+     *
+     * @param key 缓存key
+     */
+    public void invalidate(K key) {
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            this.remove(node);
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            data.clear();
+            window.clear();
+            probation.clear();
+            protect.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long size() {
+        return data.size();
+    }
+
+    public long maximumSize() {
+        return maximumSize;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 命中率, 无请求时为0
+     *
+     * @return 命中率
+     */
+    public double hitRatio() {
+        final long hit = hits.sum();
+        final long total = hit + misses.sum();
+        return total == 0 ? 0D : (double) hit / total;
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private void remove(Node<K, V> node) {
+        if (!data.remove(node.key, node)) {
+            return;
+        }
+        lock.lock();
+        try {
+            this.unlink(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key.hashCode());
+        switch (node.queue) {
+            case WINDOW -> window.moveToFirst(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protect.addFirst(node);
+                while (protect.size > maxProtected) {
+                    final Node<K, V> demoted = protect.pollLast();
+                    demoted.queue = PROBATION;
+                    probation.addFirst(demoted);
+                }
+            }
+            case PROTECTED -> protect.moveToFirst(node);
+            default -> {
+                // 已被删除, 忽略
+            }
+        }
+    }
+
+    private void evict() {
+        while (window.size > maxWindow) {
+            final Node<K, V> candidate = window.pollLast();
+            if (probation.size + protect.size < maxMain) {
+                candidate.queue = PROBATION;
+                probation.addFirst(candidate);
+                continue;
+            }
+            final Node<K, V> victim = probation.size > 0 ? probation.last() : protect.last();
+            if (victim != null && this.admit(candidate, victim)) {
+                this.unlink(victim);
+                this.evicted(victim);
+                candidate.queue = PROBATION;
+                probation.addFirst(candidate);
+            } else {
+                candidate.queue = REMOVED;
+                this.evicted(candidate);
+            }
+        }
+    }
+
+    private boolean admit(Node<K, V> candidate, Node<K, V> victim) {
+        if (candidate.isExpired(System.nanoTime())) {
+            return false;
+        }
+        if (victim.isExpired(System.nanoTime())) {
+            return true;
+        }
+        return sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode());
+    }
+
+    private void evicted(Node<K, V> node) {
+        data.remove(node.key, node);
+        evictions.increment();
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protect.remove(node);
+            default -> {
+                return;
+            }
+        }
+        node.queue = REMOVED;
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+
+        private volatile V value;
+
+        private volatile long expireAt;
+
+        private byte queue;
+
+        private Node<K, V> prev;
+
+        private Node<K, V> next;
+
+        private Node(K key, V value, long expireAt) {
+            this.key = key;
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired(long now) {
+            final long at = this.expireAt;
+            return at != 0L && now - at >= 0;
+        }
+    }
+
+    /**
+     * 侵入式双向链表, 头部为最近访问, 尾部为淘汰候选
+     */
+    private static final class Deque<K, V> {
+
+        private Node<K, V> first;
+
+        private Node<K, V> last;
+
+        private long size;
+
+        private void addFirst(Node<K, V> node) {
+            node.prev = null;
+            node.next = first;
+            if (first == null) {
+                last = node;
+            } else {
+                first.prev = node;
+            }
+            first = node;
+            size++;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        private void moveToFirst(Node<K, V> node) {
+            if (node != first) {
+                this.remove(node);
+                this.addFirst(node);
+            }
+        }
+
+        private Node<K, V> last() {
+            return last;
+        }
+
+        private Node<K, V> pollLast() {
+            final Node<K, V> node = last;
+            if (node != null) {
+                this.remove(node);
+            }
+            return node;
+        }
+
+        private void clear() {
+            for (Node<K, V> node = first; node != null; node = node.next) {
+                node.queue = REMOVED;
+            }
+            first = null;
+            last = null;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code NearCache}
+ * 二级缓存中的本地层(L1), 通过 {@link RTopic} 在节点间广播失效消息
+ * <p>
+ * 消息体为 {@code 节点ID:缓存key}, 节点忽略自己发出的消息; 同时统计L1与L2(Redis)的命中率
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Slf4j
+public class NearCache {
+
+    private static final char SEPARATOR = ':';
+
+    private final LocalCache<String, Object> local;
+
+    private final RTopic topic;
+
+    private final String nodeId = UUID.randomUUID().toString().replace("-", "");
+
+    private final long defaultTtlMs;
+
+    private final int listenerId;
+
+    private final LongAdder remoteHits = new LongAdder();
+
+    private final LongAdder remoteMisses = new LongAdder();
+
+    public NearCache(RedissonClient redissonClient, String topic, long maximumSize, Duration expirationTime) {
+        this.local = new LocalCache<>(maximumSize);
+        this.defaultTtlMs = expirationTime == null ? 0L : expirationTime.toMillis();
+        this.topic = redissonClient.getTopic(topic, StringCodec.INSTANCE);
+        this.listenerId = this.topic.addListener(String.class, (channel, message) -> this.onMessage(message));
+    }
+
+    /**
+     * 读取本地缓存
+     *
+     * @param key 缓存key
+     * @return 缓存值, 未命中返回null
+     */
+    public Object get(String key) {
+        return local.get(key);
+    }
+
+    /**
+     * 写入本地缓存
+     *
+     * @param key   缓存key
+     * @param value 缓存值
+     * @param ttlMs 存活时间(毫秒), 小于等于0时使用全局配置
+     */
+    public void put(String key, Object value, long ttlMs) {
+        if (value == null) {
+            return;
+        }
+        local.put(key, value, ttlMs > 0 ? ttlMs : defaultTtlMs);
+    }
+
+    /**
+     * 删除本地缓存并通知其他节点
+     *
+     * @param key 缓存key
+     */
+    public void evict(String key) {
+        local.invalidate(key);
+        try {
+            topic.publish(nodeId + SEPARATOR + key);
+        } catch (Exception e) {
+            log.warn("near.cache: publish.invalidate.failed, key: {}", key, e);
+        }
+    }
+
+    /**
+     * 删除本地缓存并异步通知其他节点, 用于异步加载流程, 不阻塞redisson回调线程
+     *
+     * @param key 缓存key
+     * @return 通知结果, 发送失败时同样正常完成
+     */
+    public CompletableFuture<Void> evictAsync(String key) {
+        local.invalidate(key);
+        return topic.publishAsync(nodeId + SEPARATOR + key)
+                .toCompletableFuture()
+                .handle((receivers, e) -> {
+                    if (e != null) {
+                        log.warn("near.cache: publish.invalidate.failed, key: {}", key, e);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 记录一次L2(Redis)查询结果
+     *
+     * @param hit 是否命中
+     */
+    public void recordRemote(boolean hit) {
+        if (hit) {
+            remoteHits.increment();
+        } else {
+            remoteMisses.increment();
+        }
+    }
+
+    public double l1HitRatio() {
+        return local.hitRatio();
+    }
+
+    /**
+     * L2命中率, 只统计穿透L1的请求
+     *
+     * @return 命中率
+     */
+    public double l2HitRatio() {
+        final long hit = remoteHits.sum();
+        final long total = hit + remoteMisses.sum();
+        return total == 0 ? 0D : (double) hit / total;
+    }
+
+    public LocalCache<String, Object> local() {
+        return local;
+    }
+
+    public void close() {
+        topic.removeListener(listenerId);
+        local.invalidateAll();
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private void onMessage(String message) {
+        final int index = message.indexOf(SEPARATOR);
+        if (index < 0 || message.regionMatches(0, nodeId, 0, index) && index == nodeId.length()) {
+            return;
+        }
+        local.invalidate(message.substring(index + 1));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.cache;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * {@code NullValue}
+ * 空值占位, 缓存方法返回null时写入, 读取时还原为null
+ * <p>
+ * 不能声明为final: Redisson的Jackson编码只为非final类型写入 {@code @class}, final类型会被写成 {@code {}},
+ * 按 {@code Object} 读取时因缺少类型信息而失败. 私有构造器保证不会有子类
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class NullValue implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1861735295326432758L;
+
+    public static final NullValue INSTANCE = new NullValue();
+
+    private NullValue() {
+    }
+
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof NullValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return NullValue.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "null";
+    }
+}
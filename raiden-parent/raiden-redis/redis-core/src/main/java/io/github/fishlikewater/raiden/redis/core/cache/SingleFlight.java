@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code SingleFlight}
+ * 同一JVM内相同key的并发加载合并为一次, 其余调用方共享结果
+ * <p>
+ * 缓存未命中时只有一个线程去竞争分布式锁, 避免热点key过期时大量线程各自发起锁请求
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * 执行加载, 若已有相同key的加载在进行中则等待其结果
+     *
+     * @param key    加载key
+     * @param loader 加载逻辑
+     * @return 加载结果
+     * @throws Throwable 加载异常
+     */
+    public Object execute(String key, Loader loader) throws Throwable {
+        final CompletableFuture<Object> call = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = calls.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+        return this.run(key, call, loader);
+    }
+
+    /**
+     * 执行加载, 若已有相同key的加载在进行中则直接返回 {@code fallback}
+     *
+     * @param key      加载key
+     * @param loader   加载逻辑
+     * @param fallback 已有加载时的返回值
+     * @return 加载结果
+     * @throws Throwable 加载异常
+     */
+    public Object executeIfAbsent(String key, Loader loader, Object fallback) throws Throwable {
+        final CompletableFuture<Object> call = new CompletableFuture<>();
+        if (calls.putIfAbsent(key, call) != null) {
+            return fallback;
+        }
+        return this.run(key, call, loader);
+    }
+
+    /**
+     * 异步执行加载, 若已有相同key的加载在进行中则共享其结果, 不阻塞调用线程
+     *
+     * @param key    加载key
+     * @param loader 加载逻辑
+     * @return 加载结果
+     */
+    public CompletableFuture<Object> executeAsync(String key, Supplier<? extends CompletionStage<Object>> loader) {
+        final CompletableFuture<Object> call = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = calls.putIfAbsent(key, call);
+        if (existing != null) {
+            return existing.copy();
+        }
+        return this.runAsync(key, call, loader);
+    }
+
+    /**
+     * 异步执行加载, 若已有相同key的加载在进行中则直接返回 {@code fallback}
+     *
+     * @param key      加载key
+     * @param loader   加载逻辑
+     * @param fallback 已有加载时的返回值
+     * @return 加载结果
+     */
+    public CompletableFuture<Object> executeAsyncIfAbsent(String key, Supplier<? extends CompletionStage<Object>> loader, Object fallback) {
+        final CompletableFuture<Object> call = new CompletableFuture<>();
+        if (calls.putIfAbsent(key, call) != null) {
+            return CompletableFuture.completedFuture(fallback);
+        }
+        return this.runAsync(key, call, loader);
+    }
+
+    /**
+     * 进行中的加载数量
+     *
+     * @return 数量
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private Object run(String key, CompletableFuture<Object> call, Loader loader) throws Throwable {
+        try {
+            final Object result = loader.load();
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    private CompletableFuture<Object> runAsync(String key, CompletableFuture<Object> call, Supplier<? extends CompletionStage<Object>> loader) {
+        try {
+            loader.get().whenComplete((result, e) -> {
+                calls.remove(key, call);
+                if (e != null) {
+                    call.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                } else {
+                    call.complete(result);
+                }
+            });
+        } catch (Throwable e) {
+            calls.remove(key, call);
+            call.completeExceptionally(e);
+        }
+        // 返回副本, 调用方取消或完成不影响共享的加载
+        return call.copy();
+    }
+
+    private static Object await(CompletableFuture<Object> call) throws Throwable {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * 加载数据
+         *
+         * @return 数据
+         * @throws Throwable 加载异常
+         */
+        Object load() throws Throwable;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.codec;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.exception.RaidenExceptionCheck;
+import io.github.fishlikewater.raiden.redis.core.enums.CompressionEnum;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.CborJacksonCodec;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.codec.Kryo5Codec;
+import org.redisson.codec.SmileJacksonCodec;
+
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+/**
+ * {@code CodecFactory}
+ * 根据配置创建Redisson序列化编码
+ * <p>
+ * 内置 json/smile/cbor/kryo, 其余名称通过 {@link CodecProvider} 扩展加载;
+ * smile/cbor/kryo 及压缩算法依赖为可选依赖, 使用时需自行引入
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public final class CodecFactory {
+
+    public static final String JSON = "json";
+
+    public static final String SMILE = "smile";
+
+    public static final String CBOR = "cbor";
+
+    public static final String KRYO = "kryo";
+
+    private CodecFactory() {
+    }
+
+    /**
+     * 创建编码
+     *
+     * @param type              编码类型
+     * @param compression       压缩算法
+     * @param compressThreshold 压缩阈值(字节)
+     * @return 编码
+     */
+    public static Codec create(String type, CompressionEnum compression, int compressThreshold) {
+        Codec codec = createCodec(type);
+        Compressor compressor = compressor(compression);
+        if (compressor == null) {
+            return codec;
+        }
+        return new CompressionCodec(codec, compressor, compressThreshold);
+    }
+
+    /**
+     * 创建不压缩的编码
+     *
+     * @param type 编码类型, 为空时使用json
+     * @return 编码
+     */
+    public static Codec createCodec(String type) {
+        String name = StringUtils.isBlank(type) ? JSON : type.trim().toLowerCase(Locale.ROOT);
+        return switch (name) {
+            case JSON -> new JsonJacksonCodec();
+            case SMILE -> new SmileJacksonCodec();
+            case CBOR -> new CborJacksonCodec();
+            case KRYO -> new Kryo5Codec();
+            default -> provide(name);
+        };
+    }
+
+    /**
+     * 创建压缩算法
+     *
+     * @param compression 压缩算法
+     * @return 压缩算法, 不压缩时返回null
+     */
+    public static Compressor compressor(CompressionEnum compression) {
+        if (compression == null) {
+            return null;
+        }
+        return switch (compression) {
+            case LZ4 -> new Lz4Compressor();
+            case ZSTD -> new ZstdCompressor();
+            default -> null;
+        };
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private static Codec provide(String name) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (CodecProvider provider : ServiceLoader.load(CodecProvider.class, classLoader)) {
+            if (provider.name().equalsIgnoreCase(name)) {
+                return provider.create(classLoader);
+            }
+        }
+        return RaidenExceptionCheck.INSTANCE.throwUnchecked("codec.is.not.found: {}", name);
+    }
+}
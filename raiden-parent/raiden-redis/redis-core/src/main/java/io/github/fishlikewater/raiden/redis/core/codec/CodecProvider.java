@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.codec;
+
+import org.redisson.client.codec.Codec;
+
+/**
+ * {@code CodecProvider}
+ * 序列化编码扩展点, 通过 {@link java.util.ServiceLoader} 加载,
+ * 配置 {@code serialization.type} 为 {@link #name()} 即可使用
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public interface CodecProvider {
+
+    /**
+     * 编码名称
+     *
+     * @return 名称
+     */
+    String name();
+
+    /**
+     * 创建编码
+     *
+     * @param classLoader 类加载器
+     * @return 编码
+     */
+    Codec create(ClassLoader classLoader);
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+/**
+ * {@code CompressionCodec}
+ * 按大小阈值压缩的编码包装
+ * <p>
+ * 值先由内部编码序列化, 长度达到阈值时压缩. 存储格式为3字节魔数 + 1字节标记 + 数据,
+ * 压缩数据额外带4字节原始长度; 魔数首字节为 {@code 0xFF}, 不会出现在UTF-8文本中,
+ * 不以魔数开头的旧数据(如未压缩时写入的JSON文本或kryo数据)按内部编码直接解码.
+ * map的key不压缩, 保持可读
+ * <p>
+ * 旧数据的识别只能区分是否经过本编码包装, 更换内部编码(如json改为kryo)时旧数据无法解码, 需要先清空缓存
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class CompressionCodec extends BaseCodec {
+
+    private static final byte[] MAGIC = {(byte) 0xFF, 'R', 'Z'};
+
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+
+    private static final byte RAW = 0;
+
+    private static final byte COMPRESSED = 1;
+
+    private final Codec innerCodec;
+
+    private final Compressor compressor;
+
+    private final int threshold;
+
+    private final Encoder valueEncoder;
+
+    private final Decoder<Object> valueDecoder;
+
+    private final Encoder mapValueEncoder;
+
+    private final Decoder<Object> mapValueDecoder;
+
+    public CompressionCodec(Codec innerCodec, Compressor compressor, int threshold) {
+        this.innerCodec = innerCodec;
+        this.compressor = compressor;
+        this.threshold = Math.max(0, threshold);
+        this.valueEncoder = this.encoder(innerCodec.getValueEncoder());
+        this.valueDecoder = this.decoder(innerCodec.getValueDecoder());
+        this.mapValueEncoder = this.encoder(innerCodec.getMapValueEncoder());
+        this.mapValueDecoder = this.decoder(innerCodec.getMapValueDecoder());
+    }
+
+    public CompressionCodec(ClassLoader classLoader, CompressionCodec codec) throws ReflectiveOperationException {
+        this(copy(classLoader, codec.innerCodec), codec.compressor, codec.threshold);
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return valueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return mapValueDecoder;
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return mapValueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return innerCodec.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return innerCodec.getMapKeyEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return innerCodec.getClassLoader();
+    }
+
+    public Codec getInnerCodec() {
+        return innerCodec;
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private Encoder encoder(Encoder inner) {
+        return in -> {
+            ByteBuf encoded = inner.encode(in);
+            try {
+                int length = encoded.readableBytes();
+                if (length < threshold) {
+                    ByteBuf out = ByteBufAllocator.DEFAULT.buffer(length + HEADER_SIZE);
+                    out.writeBytes(MAGIC);
+                    out.writeByte(RAW);
+                    out.writeBytes(encoded);
+                    return out;
+                }
+                byte[] src = new byte[length];
+                encoded.readBytes(src);
+                byte[] compressed = compressor.compress(src);
+                ByteBuf out = ByteBufAllocator.DEFAULT.buffer(compressed.length + HEADER_SIZE + 4);
+                out.writeBytes(MAGIC);
+                out.writeByte(COMPRESSED);
+                out.writeInt(length);
+                out.writeBytes(compressed);
+                return out;
+            } finally {
+                encoded.release();
+            }
+        };
+    }
+
+    private Decoder<Object> decoder(Decoder<Object> inner) {
+        return (buf, state) -> {
+            byte flag = this.flag(buf);
+            if (flag == RAW) {
+                buf.skipBytes(HEADER_SIZE);
+                return inner.decode(buf, state);
+            }
+            if (flag != COMPRESSED) {
+                return inner.decode(buf, state);
+            }
+            buf.skipBytes(HEADER_SIZE);
+            int length = buf.readInt();
+            byte[] src = new byte[buf.readableBytes()];
+            buf.readBytes(src);
+            ByteBuf raw = Unpooled.wrappedBuffer(compressor.decompress(src, length));
+            try {
+                return inner.decode(raw, state);
+            } finally {
+                raw.release();
+            }
+        };
+    }
+
+    /**
+     * 以魔数开头时返回标记位, 否则返回-1表示未经过本编码包装的旧数据
+     */
+    private byte flag(ByteBuf buf) {
+        int index = buf.readerIndex();
+        if (buf.readableBytes() < HEADER_SIZE) {
+            return -1;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buf.getByte(index + i) != MAGIC[i]) {
+                return -1;
+            }
+        }
+        return buf.getByte(index + MAGIC.length);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.codec;
+
+/**
+ * {@code Compressor}
+ * 压缩算法
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public interface Compressor {
+
+    /**
+     * 压缩
+     *
+     * @param src 原始数据
+     * @return 压缩后的数据
+     */
+    byte[] compress(byte[] src);
+
+    /**
+     * 解压
+     *
+     * @param src            压缩数据
+     * @param originalLength 原始数据长度
+     * @return 原始数据
+     */
+    byte[] decompress(byte[] src, int originalLength);
+}
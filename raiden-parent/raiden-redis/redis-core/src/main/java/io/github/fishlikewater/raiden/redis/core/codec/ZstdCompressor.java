@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.codec;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * {@code ZstdCompressor}
+ * Zstandard 压缩
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class ZstdCompressor implements Compressor {
+
+    private static final int LEVEL = 3;
+
+    @Override
+    public byte[] compress(byte[] src) {
+        return Zstd.compress(src, LEVEL);
+    }
+
+    @Override
+    public byte[] decompress(byte[] src, int originalLength) {
+        return Zstd.decompress(src, originalLength);
+    }
+}
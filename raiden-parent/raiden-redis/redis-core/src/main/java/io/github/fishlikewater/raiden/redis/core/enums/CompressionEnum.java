@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.core.enums;
+
+/**
+ * {@code CompressionEnum}
+ * 缓存值压缩算法
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public enum CompressionEnum {
+
+    // 不压缩
+    NONE,
+    // LZ4, 压缩/解压速度快, 需引入 lz4-java
+    LZ4,
+    // Zstandard, 压缩率更高, 需引入 zstd-jni
+    ZSTD,
+
+    ;
+
+    CompressionEnum() {
+
+    }
+}
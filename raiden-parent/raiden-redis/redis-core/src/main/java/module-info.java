@@ -22,6 +22,9 @@
 module raiden.redis.core {
     requires static lombok;
     requires redisson;
+    requires io.netty.buffer;
+    requires static org.lz4.java;
+    requires static com.github.luben.zstd_jni;
     requires org.slf4j;
     requires raiden.core;
     requires raiden.json.core;
@@ -29,6 +32,10 @@ module raiden.redis.core {
 
     exports io.github.fishlikewater.raiden.redis.core;
     exports io.github.fishlikewater.raiden.redis.core.annotation;
+    exports io.github.fishlikewater.raiden.redis.core.cache;
+    exports io.github.fishlikewater.raiden.redis.core.codec;
     exports io.github.fishlikewater.raiden.redis.core.delay;
     exports io.github.fishlikewater.raiden.redis.core.enums;
+
+    uses io.github.fishlikewater.raiden.redis.core.codec.CodecProvider;
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.test;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.redis.core.codec.CodecFactory;
+import io.github.fishlikewater.raiden.redis.core.codec.CompressionCodec;
+import io.github.fishlikewater.raiden.redis.core.enums.CompressionEnum;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code CodecTest}
+ * 序列化编码与压缩测试, 含各编码的存储大小与编解码耗时对比
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class CodecTest {
+
+    @Test
+    public void testCompressionThreshold() throws Exception {
+        CompressionCodec codec = new CompressionCodec(StringCodec.INSTANCE, CodecFactory.compressor(CompressionEnum.LZ4), 64);
+        String small = "fishlikewater";
+        String large = "fishlikewater:".repeat(100);
+
+        ByteBuf smallBuf = codec.getValueEncoder().encode(small);
+        Assert.assertEquals(small.length() + 4, smallBuf.readableBytes());
+        Assert.assertEquals(small, codec.getValueDecoder().decode(smallBuf, null));
+
+        ByteBuf largeBuf = codec.getValueEncoder().encode(large);
+        System.out.println(StringUtils.format("raw: {} bytes, stored: {} bytes", large.length(), largeBuf.readableBytes()));
+        Assert.assertTrue(largeBuf.readableBytes() < large.length() / 4);
+        Assert.assertEquals(large, codec.getValueDecoder().decode(largeBuf, null));
+
+        // 未加标记位的旧数据按内部编码解码
+        ByteBuf legacy = Unpooled.wrappedBuffer("{\"name\":\"raiden\"}".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("{\"name\":\"raiden\"}", codec.getValueDecoder().decode(legacy, null));
+        // 首字节与旧的标记位相同的二进制数据(如kryo)同样按内部编码解码
+        for (byte first : new byte[]{0, 1}) {
+            ByteBuf binary = Unpooled.wrappedBuffer(new byte[]{first, 'r', 'a', 'i', 'd', 'e', 'n'});
+            Assert.assertEquals((char) first + "raiden", codec.getValueDecoder().decode(binary, null));
+        }
+    }
+
+    @Test
+    public void testBenchmark() throws Exception {
+        Order order = order();
+        String[] types = {CodecFactory.JSON, CodecFactory.SMILE, CodecFactory.CBOR, CodecFactory.KRYO};
+        CompressionEnum[] compressions = {CompressionEnum.NONE, CompressionEnum.LZ4, CompressionEnum.ZSTD};
+        int iterations = 2_000;
+        for (String type : types) {
+            for (CompressionEnum compression : compressions) {
+                Codec codec = CodecFactory.create(type, compression, 1024);
+                ByteBuf buf = codec.getValueEncoder().encode(order);
+                int bytes = buf.readableBytes();
+                Assert.assertEquals(order, codec.getValueDecoder().decode(buf, null));
+                buf.release();
+
+                long encodeNanos = 0;
+                long decodeNanos = 0;
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    ByteBuf encoded = codec.getValueEncoder().encode(order);
+                    long encoded0 = System.nanoTime();
+                    codec.getValueDecoder().decode(encoded, null);
+                    decodeNanos += System.nanoTime() - encoded0;
+                    encodeNanos += encoded0 - start;
+                    encoded.release();
+                }
+                System.out.println(StringUtils.format("{}+{}: {} bytes, encode {} us/op, decode {} us/op",
+                        type, compression, bytes, encodeNanos / iterations / 1000D, decodeNanos / iterations / 1000D));
+            }
+        }
+    }
+
+    private static Order order() {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(new OrderItem("SKU-" + (100_000 + i), "商品名称-" + i, i % 5 + 1, BigDecimal.valueOf(19_990 + i, 2)));
+        }
+        return new Order(20261018L, "fishlikewater", "浙江省杭州市西湖区", items);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Order implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+
+        private String customer;
+
+        private String address;
+
+        private List<OrderItem> items;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderItem implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private String sku;
+
+        private String name;
+
+        private int quantity;
+
+        private BigDecimal price;
+    }
+}
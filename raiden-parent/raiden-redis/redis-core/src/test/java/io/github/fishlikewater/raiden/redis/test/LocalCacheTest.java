@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.test;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.redis.core.cache.LocalCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@code LocalCacheTest}
+ * 本地缓存(L1)测试
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class LocalCacheTest {
+
+    @Test
+    public void testMaximumSize() {
+        LocalCache<String, Integer> cache = new LocalCache<>(1_000);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("key:" + i, i, 0);
+        }
+        System.out.println(StringUtils.format("size: {}, evictions: {}", cache.size(), cache.evictionCount()));
+        Assert.assertTrue(cache.size() <= 1_000);
+        Assert.assertEquals(9_000, cache.evictionCount());
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        LocalCache<String, String> cache = new LocalCache<>(100);
+        cache.put("short", "v1", 50);
+        cache.put("forever", "v2", 0);
+        Assert.assertEquals("v1", cache.get("short"));
+        Thread.sleep(100);
+        Assert.assertNull(cache.get("short"));
+        Assert.assertEquals("v2", cache.get("forever"));
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        LocalCache<String, String> cache = new LocalCache<>(100);
+        cache.put("a", "1", 0);
+        cache.put("b", "2", 0);
+        cache.invalidate("a");
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals("2", cache.get("b"));
+        cache.invalidateAll();
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals(0, cache.size());
+        cache.put("c", "3", 0);
+        Assert.assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    public void testScanResistance() {
+        LocalCache<String, Integer> cache = new LocalCache<>(1_000);
+        // 热点数据被反复访问
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 800; i++) {
+                String key = "hot:" + i;
+                if (cache.get(key) == null) {
+                    cache.put(key, i, 0);
+                }
+            }
+        }
+        // 一次性扫描大量冷数据
+        for (int i = 0; i < 100_000; i++) {
+            cache.put("scan:" + i, i, 0);
+        }
+        int retained = 0;
+        for (int i = 0; i < 800; i++) {
+            if (cache.get("hot:" + i) != null) {
+                retained++;
+            }
+        }
+        System.out.println(StringUtils.format("hot retained after scan: {}/800, hit ratio: {}", retained, cache.hitRatio()));
+        Assert.assertTrue(retained >= 760);
+    }
+
+    @Test
+    public void testHitRatio() {
+        LocalCache<String, String> cache = new LocalCache<>(100);
+        cache.put("a", "1", 0);
+        for (int i = 0; i < 3; i++) {
+            cache.get("a");
+        }
+        cache.get("b");
+        Assert.assertEquals(3, cache.hitCount());
+        Assert.assertEquals(1, cache.missCount());
+        Assert.assertEquals(0.75D, cache.hitRatio(), 0.0001D);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.test;
+
+import io.github.fishlikewater.raiden.redis.core.cache.CacheValue;
+import io.github.fishlikewater.raiden.redis.core.cache.NullValue;
+import io.github.fishlikewater.raiden.redis.core.codec.CodecFactory;
+import io.netty.buffer.ByteBuf;
+import org.junit.Assert;
+import org.junit.Test;
+import org.redisson.client.codec.Codec;
+
+import java.util.List;
+
+/**
+ * {@code NullValueTest}
+ * 空值占位测试
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class NullValueTest {
+
+    @Test
+    public void testUnwrap() {
+        Assert.assertNull(CacheValue.unwrap(NullValue.INSTANCE));
+        Assert.assertNull(CacheValue.unwrap(new CacheValue(NullValue.INSTANCE, 0, 0)));
+        Assert.assertEquals(List.of(), CacheValue.unwrap(List.of()));
+    }
+
+    @Test
+    public void testCodecs() throws Exception {
+        for (String type : new String[]{CodecFactory.JSON, CodecFactory.SMILE, CodecFactory.CBOR, CodecFactory.KRYO}) {
+            Codec codec = CodecFactory.createCodec(type);
+            // 直接写入的占位与包装在CacheValue中的占位都需要能按Object读回
+            Object bare = this.roundTrip(codec, NullValue.INSTANCE);
+            Assert.assertTrue(type, bare instanceof NullValue);
+            Assert.assertNull(type, CacheValue.unwrap(bare));
+
+            Object wrapped = this.roundTrip(codec, new CacheValue(NullValue.INSTANCE, 1, 2));
+            Assert.assertTrue(type, wrapped instanceof CacheValue);
+            Assert.assertNull(type, CacheValue.unwrap(wrapped));
+        }
+    }
+
+    private Object roundTrip(Codec codec, Object value) throws Exception {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            return codec.getValueDecoder().decode(buf, null);
+        } finally {
+            buf.release();
+        }
+    }
+}
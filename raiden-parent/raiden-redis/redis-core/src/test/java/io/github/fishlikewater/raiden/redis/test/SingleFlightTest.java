@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.redis.test;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.redis.core.cache.CacheValue;
+import io.github.fishlikewater.raiden.redis.core.cache.SingleFlight;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code SingleFlightTest}
+ * 并发加载合并与提前刷新测试
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class SingleFlightTest {
+
+    @Test
+    public void testCoalesce() throws InterruptedException {
+        SingleFlight singleFlight = new SingleFlight();
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger results = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                    Object value = singleFlight.execute("user:1", () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(100);
+                        return "value";
+                    });
+                    if ("value".equals(value)) {
+                        results.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        System.out.println(StringUtils.format("callers: 100, loads: {}", loads.get()));
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(100, results.get());
+        Assert.assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void testFailure() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight();
+        try {
+            singleFlight.execute("user:2", () -> {
+                throw new IllegalStateException("load failed");
+            });
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("load failed", e.getMessage());
+        }
+        Assert.assertEquals("ok", singleFlight.execute("user:2", () -> "ok"));
+    }
+
+    @Test
+    public void testCoalesceAsync() {
+        SingleFlight singleFlight = new SingleFlight();
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        List<CompletableFuture<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            calls.add(singleFlight.executeAsync("user:3", () -> {
+                loads.incrementAndGet();
+                return pending;
+            }));
+        }
+        Assert.assertEquals(1, singleFlight.inFlight());
+        // 加载未完成时调用方不阻塞, 仍在进行中时返回兜底值
+        Assert.assertEquals("stale", singleFlight.executeAsyncIfAbsent("user:3", () -> pending, "stale").join());
+        calls.getFirst().cancel(true);
+        pending.complete("value");
+        long results = calls.stream().skip(1).map(CompletableFuture::join).filter("value"::equals).count();
+        System.out.println(StringUtils.format("async callers: 100, loads: {}", loads.get()));
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(99, results);
+        Assert.assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void testFailureAsync() {
+        SingleFlight singleFlight = new SingleFlight();
+        CompletableFuture<Object> call = singleFlight.executeAsync("user:4", () -> CompletableFuture.failedFuture(new IllegalStateException("load failed")));
+        try {
+            call.join();
+            Assert.fail();
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        Assert.assertEquals(0, singleFlight.inFlight());
+        Assert.assertEquals("ok", singleFlight.executeAsync("user:4", () -> CompletableFuture.completedFuture("ok")).join());
+    }
+
+    @Test
+    public void testEarlyRefresh() {
+        long now = System.currentTimeMillis();
+        // 加载耗时1s, 剩余10分钟: 几乎不会提前刷新
+        CacheValue fresh = new CacheValue("v", 1_000, now + 600_000);
+        // 加载耗时1s, 剩余100ms: 大概率提前刷新
+        CacheValue expiring = new CacheValue("v", 1_000, now + 100);
+        int freshRefresh = 0;
+        int expiringRefresh = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (fresh.shouldRefresh(1D, now)) {
+                freshRefresh++;
+            }
+            if (expiring.shouldRefresh(1D, now)) {
+                expiringRefresh++;
+            }
+        }
+        System.out.println(StringUtils.format("refresh fresh: {}, expiring: {}", freshRefresh, expiringRefresh));
+        Assert.assertTrue(freshRefresh < 10);
+        Assert.assertTrue(expiringRefresh > 8_000);
+        Assert.assertFalse(expiring.shouldRefresh(0D, now));
+        Assert.assertEquals("v", CacheValue.unwrap(expiring));
+        Assert.assertEquals("raw", CacheValue.unwrap("raw"));
+    }
+}
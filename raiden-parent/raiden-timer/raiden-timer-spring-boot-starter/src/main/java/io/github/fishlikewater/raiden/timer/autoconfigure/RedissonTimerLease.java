@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.autoconfigure;
+
+import io.github.fishlikewater.raiden.timer.core.cluster.TimerLease;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * {@code RedissonTimerLease}
+ * 基于 redis {@code SET key value NX PX leaseMs} 的集群租约, value 为当前节点的标识
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class RedissonTimerLease implements TimerLease {
+
+    private final RedissonClient redissonClient;
+
+    private final String nodeId;
+
+    public RedissonTimerLease(RedissonClient redissonClient) {
+        this(redissonClient, UUID.randomUUID().toString());
+    }
+
+    public RedissonTimerLease(RedissonClient redissonClient, String nodeId) {
+        this.redissonClient = redissonClient;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, long leaseMs) {
+        return redissonClient.getBucket(key, StringCodec.INSTANCE).setIfAbsent(nodeId, Duration.ofMillis(leaseMs));
+    }
+}
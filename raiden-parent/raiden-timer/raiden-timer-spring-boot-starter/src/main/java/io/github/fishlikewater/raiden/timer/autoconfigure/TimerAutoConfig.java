@@ -15,10 +15,20 @@
  */
 package io.github.fishlikewater.raiden.timer.autoconfigure;
 
+import io.github.fishlikewater.raiden.timer.core.clock.TimerClock;
+import io.github.fishlikewater.raiden.timer.core.cluster.TimerLease;
+import io.github.fishlikewater.raiden.timer.core.journal.TimerTaskRestorer;
 import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 /**
  * {@code TimerAutoConfig}
@@ -36,11 +46,16 @@ public class TimerAutoConfig {
      * 定时器启动器
      *
      * @param timerConfig 定时器配置
+     * @param restorer    持久化任务重建, 默认反射调用无参构造器
+     * @param timerClock  时钟, 默认系统时钟
+     * @param timerLease  集群租约, 开启集群模式时使用
      * @return TimerLauncher
      */
     @Bean
-    public TimerLauncher timerLauncher(TimerConfigProperties timerConfig) {
-        return new TimerLauncher(timerConfig);
+    public TimerLauncher timerLauncher(TimerConfigProperties timerConfig, ObjectProvider<TimerTaskRestorer> restorer, ObjectProvider<TimerClock> timerClock, ObjectProvider<TimerLease> timerLease) {
+        timerClock.ifAvailable(timerConfig::setTimerClock);
+        timerLease.ifAvailable(timerConfig::setTimerLease);
+        return new TimerLauncher(timerConfig, restorer.getIfAvailable(TimerTaskRestorer::reflective));
     }
 
     /**
@@ -52,4 +67,38 @@ public class TimerAutoConfig {
     public TimerBeanProcessor timerBeanProcessor() {
         return new TimerBeanProcessor();
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RedissonClient.class)
+    @ConditionalOnProperty(prefix = "raiden.timer.cluster", name = "enabled", havingValue = "true")
+    static class TimerClusterConfig {
+
+        /**
+         * 集群租约, 使用 raiden-redis 提供的 {@link RedissonClient}
+         *
+         * @param redissonClient redisson客户端
+         * @return TimerLease
+         */
+        @Bean
+        @ConditionalOnMissingBean(TimerLease.class)
+        public TimerLease timerLease(ObjectProvider<RedissonClient> redissonClient) {
+            return new RedissonTimerLease(redissonClient.getObject());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class TimerMetricsConfig {
+
+        /**
+         * 定时器指标, 存在 {@link MeterRegistry} 时由 Micrometer 绑定
+         *
+         * @param timerLauncher 定时器
+         * @return TimerMeterBinder
+         */
+        @Bean
+        public TimerMeterBinder timerMeterBinder(TimerLauncher timerLauncher) {
+            return new TimerMeterBinder(timerLauncher);
+        }
+    }
 }
@@ -16,17 +16,29 @@
 package io.github.fishlikewater.raiden.timer.autoconfigure;
 
 import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+import io.github.fishlikewater.raiden.timer.core.MethodTimerTask;
+import io.github.fishlikewater.raiden.timer.core.annotation.TimerTask;
 import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
 import io.github.fishlikewater.spring.boot.raiden.core.processor.BeanProcessor;
 import lombok.NonNull;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
  * {@code TimerBeanProcessor}
  * </p>
- * 注入定时任务
+ * 注入定时任务: {@link BaseTimerTask} 类型的bean, 以及bean中标注了 {@link TimerTask} 的方法
  *
  * @author fishlikewater@126.com
  * @version 1.0.2
@@ -36,6 +48,11 @@ public class TimerBeanProcessor implements BeanProcessor {
 
     protected ConfigurableListableBeanFactory beanFactory;
 
+    /**
+     * 已确认没有 {@link TimerTask} 方法的类, 避免重复扫描
+     */
+    private final Set<Class<?>> nonAnnotatedClasses = ConcurrentHashMap.newKeySet();
+
     @Override
     public void postProcessBeanFactory(@NonNull ConfigurableListableBeanFactory beanFactory) throws BeansException {
         this.beanFactory = beanFactory;
@@ -47,6 +64,28 @@ public class TimerBeanProcessor implements BeanProcessor {
             final TimerLauncher timerLauncher = this.beanFactory.getBean(TimerLauncher.class);
             timerLauncher.add(task);
         }
+        this.registerMethods(bean, beanName);
         return bean;
     }
+
+    private void registerMethods(Object bean, String beanName) {
+        final Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (nonAnnotatedClasses.contains(targetClass)) {
+            return;
+        }
+        final Map<Method, TimerTask> annotatedMethods = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<TimerTask>) method -> AnnotatedElementUtils.findMergedAnnotation(method, TimerTask.class));
+        if (annotatedMethods.isEmpty()) {
+            nonAnnotatedClasses.add(targetClass);
+            return;
+        }
+        final TimerLauncher timerLauncher = this.beanFactory.getBean(TimerLauncher.class);
+        final List<BaseTimerTask> tasks = new ArrayList<>(annotatedMethods.size());
+        annotatedMethods.forEach((method, timerTask) -> {
+            // 代理对象上可调用的方法(JDK代理时为接口方法)
+            final Method invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+            tasks.add(new MethodTimerTask(beanName, bean, invocableMethod, timerTask));
+        });
+        timerLauncher.addAll(tasks);
+    }
 }
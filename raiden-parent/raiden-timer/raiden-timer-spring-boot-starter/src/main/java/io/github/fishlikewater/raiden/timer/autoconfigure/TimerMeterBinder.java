@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.autoconfigure;
+
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+import io.github.fishlikewater.raiden.timer.core.metrics.TimerMetrics;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TimerMeterBinder}
+ * 将定时器指标导出到 Micrometer
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class TimerMeterBinder implements MeterBinder, TimerMetrics {
+
+    /**
+     * 上报的时间轮层数, 更高的层级基本只有超长延时任务
+     */
+    private static final int REPORTED_LEVELS = 6;
+
+    private final TimerLauncher timerLauncher;
+
+    private volatile Timer[] fireLag;
+
+    private volatile Timer execution;
+
+    private volatile Counter cronReschedule;
+
+    private volatile Counter misfire;
+
+    private volatile Counter skipped;
+
+    private volatile Counter[] rejected;
+
+    private volatile Timer drift;
+
+    private volatile Counter leaseLost;
+
+    private volatile Counter journalError;
+
+    public TimerMeterBinder(TimerLauncher timerLauncher) {
+        this.timerLauncher = timerLauncher;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        final TimerLaneEnum[] lanes = TimerLaneEnum.values();
+        final Timer[] fireLag = new Timer[lanes.length];
+        final Counter[] rejected = new Counter[lanes.length];
+        for (TimerLaneEnum lane : lanes) {
+            final String tag = lane.name().toLowerCase();
+            fireLag[lane.ordinal()] = Timer.builder("raiden.timer.fire.lag")
+                    .description("任务实际执行时间与到期时间的差值")
+                    .tag("lane", tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            rejected[lane.ordinal()] = Counter.builder("raiden.timer.rejected")
+                    .description("工作线程队列已满而丢弃的任务数")
+                    .tag("lane", tag)
+                    .register(registry);
+            Gauge.builder("raiden.timer.worker.backlog", timerLauncher, launcher -> launcher.workerBacklog(lane))
+                    .description("已到期但还未开始执行的任务数")
+                    .tag("lane", tag)
+                    .register(registry);
+        }
+        this.fireLag = fireLag;
+        this.rejected = rejected;
+        this.execution = Timer.builder("raiden.timer.execution")
+                .description("任务执行耗时")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.cronReschedule = Counter.builder("raiden.timer.cron.reschedule")
+                .description("corn任务重新调度次数")
+                .register(registry);
+        this.misfire = Counter.builder("raiden.timer.misfire")
+                .description("错过触发时间的次数")
+                .register(registry);
+        this.skipped = Counter.builder("raiden.timer.skipped")
+                .description("上一次执行未结束而未提交的触发次数")
+                .register(registry);
+        this.drift = Timer.builder("raiden.timer.drift")
+                .description("重复任务触发时间相对计划时间的偏移")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.leaseLost = Counter.builder("raiden.timer.lease.lost")
+                .description("集群模式下未获取到租约而跳过的触发次数")
+                .register(registry);
+        this.journalError = Counter.builder("raiden.timer.journal.errors")
+                .description("boss线程上任务日志写入失败的次数")
+                .register(registry);
+        Gauge.builder("raiden.timer.tasks", timerLauncher, TimerLauncher::size)
+                .description("等待执行的任务数")
+                .register(registry);
+        for (int level = 0; level < REPORTED_LEVELS; level++) {
+            final int index = level;
+            Gauge.builder("raiden.timer.wheel.occupancy", timerLauncher, launcher -> this.occupancy(launcher, index))
+                    .description("时间轮各层的任务数")
+                    .tag("level", String.valueOf(level))
+                    .register(registry);
+        }
+        timerLauncher.setMetrics(this);
+    }
+
+    @Override
+    public void recordFireLag(long lagMs) {
+        this.recordFireLag(TimerLaneEnum.NORMAL, lagMs);
+    }
+
+    @Override
+    public void recordFireLag(TimerLaneEnum lane, long lagMs) {
+        fireLag[lane.ordinal()].record(Math.max(0, lagMs), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordExecution(long durationNanos) {
+        execution.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordCronReschedule() {
+        cronReschedule.increment();
+    }
+
+    @Override
+    public void recordMisfire() {
+        misfire.increment();
+    }
+
+    @Override
+    public void recordSkipped() {
+        skipped.increment();
+    }
+
+    @Override
+    public void recordRejected() {
+        this.recordRejected(TimerLaneEnum.NORMAL);
+    }
+
+    @Override
+    public void recordRejected(TimerLaneEnum lane) {
+        rejected[lane.ordinal()].increment();
+    }
+
+    @Override
+    public void recordDrift(long driftMs) {
+        drift.record(Math.max(0, driftMs), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordLeaseLost() {
+        leaseLost.increment();
+    }
+
+    @Override
+    public void recordJournalError() {
+        journalError.increment();
+    }
+
+    private double occupancy(TimerLauncher launcher, int level) {
+        final long[] occupancy = launcher.levelOccupancy();
+        return level < occupancy.length ? occupancy[level] : 0;
+    }
+}
@@ -25,8 +25,12 @@ module raiden.timer.spring.boot.starter {
     requires raiden.core.spring.boot;
     requires spring.boot;
     requires spring.beans;
+    requires spring.core;
+    requires spring.aop;
     requires spring.context;
     requires spring.boot.autoconfigure;
+    requires static micrometer.core;
+    requires static redisson;
 
     exports io.github.fishlikewater.raiden.timer.autoconfigure;
 }
\ No newline at end of file
@@ -17,8 +17,18 @@ package io.github.fishlikewater.raiden.timer.core;
 
 import io.github.fishlikewater.raiden.core.ObjectUtils;
 import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CronExpression;
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.MisfirePolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * {@code BaseTimerTask}
@@ -38,15 +48,35 @@ public abstract class BaseTimerTask implements Runnable {
     private long delayMs;
 
     /**
-     * corn表达式
+     * corn表达式, 通过 {@link #setCornExpression(String)} 设置时会被intern, 同一表达式的任务共享一个字符串
      */
+    @Setter(AccessLevel.NONE)
     private String cornExpression;
 
+    /**
+     * 重复执行的间隔 ms, 大于0为固定频率, 小于0为固定延迟, 通过 {@link #getFixedRateMs()}/{@link #getFixedDelayMs()} 访问
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long repeatMs;
+
+    /**
+     * 描述, 常带有业务id等各不相同的内容, 不做intern
+     */
     private String desc;
 
     /**
-     * 任务所在的entry 用来获取一些执行分配参数
+     * 任务数据, 持久化任务恢复时原样传回, 每个任务各不相同, 不做intern
+     */
+    private String payload;
+
+    /**
+     * 任务最近一次调度的entry, 用于复用已到期的entry和 {@code Future} 取消
+     * <p>
+     * 与entry互相引用, 不参与equals/hashCode/toString
      */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private TimerTaskEntry timerTaskEntry;
 
     /**
@@ -63,6 +93,20 @@ public abstract class BaseTimerTask implements Runnable {
         return null;
     }
 
+    /**
+     * 设置固定频率 ms, 小于等于0表示不重复
+     */
+    public long fixedRateMs() {
+        return 0;
+    }
+
+    /**
+     * 设置固定延迟 ms, 小于等于0表示不重复
+     */
+    public long fixedDelayMs() {
+        return 0;
+    }
+
     /**
      * 设置描述
      */
@@ -70,15 +114,124 @@ public abstract class BaseTimerTask implements Runnable {
         return null;
     }
 
+    /**
+     * 设置任务数据
+     */
+    public String payload() {
+        return null;
+    }
+
+    /**
+     * 是否持久化到任务日志, 需要开启 {@code raiden.timer.journal.enabled}
+     * <p>
+     * 重启后通过 {@code TimerTaskRestorer} 重建任务, 默认要求任务类有无参构造器
+     * <p>
+     * 一次性任务在提交执行前记录已触发, 即至多执行一次: 记录后、执行完成前进程退出, 重启后不会再次执行;
+     * 若记录本身写入失败, 任务仍会执行, 重启后可能重复执行
+     */
+    public boolean durable() {
+        return false;
+    }
+
+    /**
+     * 上一次执行还未结束时再次触发的处理, 默认不限制
+     */
+    public ConcurrencyPolicyEnum concurrencyPolicy() {
+        return ConcurrencyPolicyEnum.ALLOW_PARALLEL;
+    }
+
+    /**
+     * 错过触发时间(超过 {@code misfireThreshold})时的处理, 默认立即执行一次
+     */
+    public MisfirePolicyEnum misfirePolicy() {
+        return MisfirePolicyEnum.FIRE_ONCE;
+    }
+
+    /**
+     * 执行通道, 不同通道使用独立的工作线程池, 默认 {@code NORMAL}
+     */
+    public TimerLaneEnum lane() {
+        return TimerLaneEnum.NORMAL;
+    }
+
+    /**
+     * 工作线程池队列已满、本次触发被丢弃时在boss线程中调用, 默认不处理
+     * <p>
+     * 持有等待方(如future)的任务应在此结束等待, 不能阻塞
+     *
+     * @param e 拒绝异常
+     */
+    public void onRejected(RejectedExecutionException e) {
+    }
+
+    /**
+     * 集群模式下corn任务的租约key, 各节点需一致且在各任务间唯一, 默认null表示每个节点都执行
+     * <p>
+     * 同一个类的多个任务实例需返回不同的key, 否则同一毫秒触发时会争抢同一个租约
+     */
+    public String clusterKey() {
+        return null;
+    }
+
+    /**
+     * 是否为固定频率或固定延迟的重复任务
+     */
+    public boolean isRepeating() {
+        return repeatMs != 0;
+    }
+
+    /**
+     * 固定频率重复执行的间隔 ms, 下次到期时间按计划时间推算, 不受执行耗时和触发延迟影响
+     */
+    public long getFixedRateMs() {
+        return Math.max(0, repeatMs);
+    }
+
+    public void setFixedRateMs(long fixedRateMs) {
+        if (fixedRateMs > 0) {
+            this.repeatMs = fixedRateMs;
+        } else if (repeatMs > 0) {
+            this.repeatMs = 0;
+        }
+    }
+
+    /**
+     * 固定延迟重复执行的间隔 ms, 上一次执行结束后再开始计时
+     */
+    public long getFixedDelayMs() {
+        return Math.max(0, -repeatMs);
+    }
+
+    public void setFixedDelayMs(long fixedDelayMs) {
+        if (fixedDelayMs > 0) {
+            this.repeatMs = -fixedDelayMs;
+        } else if (repeatMs < 0) {
+            this.repeatMs = 0;
+        }
+    }
+
+    public void setCornExpression(String cornExpression) {
+        this.cornExpression = Objects.isNull(cornExpression) ? null : cornExpression.intern();
+    }
+
     public BaseTimerTask() {
         this.setDesc(this.desc());
+        this.setPayload(this.payload());
         this.setDelayMs(this.delayMs());
+        if (this.fixedRateMs() > 0 && this.fixedDelayMs() > 0) {
+            throw new IllegalArgumentException("fixedRateMs and fixedDelayMs can not be set at the same time");
+        }
+        this.setFixedRateMs(this.fixedRateMs());
+        this.setFixedDelayMs(this.fixedDelayMs());
         final String expression = this.cornExpression();
         if (ObjectUtils.isNotNullOrEmpty(expression)) {
             final boolean validExpression = CronExpression.isValidExpression(expression);
             if (!validExpression) {
                 throw new IllegalArgumentException("cornExpression is not valid");
             }
+            if (this.isRepeating()) {
+                throw new IllegalArgumentException("cornExpression can not be used with fixedRateMs or fixedDelayMs");
+            }
             this.setCornExpression(expression);
         }
     }
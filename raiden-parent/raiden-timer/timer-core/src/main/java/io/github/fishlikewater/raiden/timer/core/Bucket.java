@@ -15,28 +15,31 @@
  */
 package io.github.fishlikewater.raiden.timer.core;
 
-import lombok.NonNull;
-
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.concurrent.Delayed;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
  * {@code Bucket}
  * 任务桶
+ * <p>
+ * 写入走无锁的多生产者单消费者栈({@link #addTask(TimerTaskEntry)} 只有一次CAS),
+ * 双向链表只由boss线程在 {@link #clear(Consumer)}/{@link #remove(TimerTaskEntry)} 时访问
  *
  * @author zhangxiang
  * @since 2024/04/03
  * @version 1.0.0
  */
-public class Bucket implements Serializable, Delayed {
+public class Bucket implements Serializable {
 
     @Serial
     private static final long serialVersionUID = -54685076223584564L;
+
+    private static final AtomicReferenceFieldUpdater<Bucket, TimerTaskEntry> INBOX =
+            AtomicReferenceFieldUpdater.newUpdater(Bucket.class, TimerTaskEntry.class, "inbox");
     /**
      * 虚拟根节点root
      */
@@ -45,9 +48,14 @@ public class Bucket implements Serializable, Delayed {
      * bucket的过期时间
      */
     private final AtomicLong expiration = new AtomicLong(-1L);
-
-    ReentrantLock removeLock = new ReentrantLock();
-    ReentrantLock addLock = new ReentrantLock();
+    /**
+     * 待转移的任务(栈顶), 通过 {@link TimerTaskEntry#next} 串联
+     */
+    private volatile TimerTaskEntry inbox;
+    /**
+     * 桶内任务数(含写入栈中的任务)
+     */
+    private final LongAdder size = new LongAdder();
 
     {
         root.next = root;
@@ -58,6 +66,15 @@ public class Bucket implements Serializable, Delayed {
         return expiration.get();
     }
 
+    /**
+     * 桶内任务数
+     *
+     * @return 任务数
+     */
+    public long size() {
+        return size.sum();
+    }
+
     /**
      * 设置bucket的过期时间,设置成功返回true
      *
@@ -69,75 +86,101 @@ public class Bucket implements Serializable, Delayed {
     }
 
     /**
-     * 添加任务
+     * 添加任务, 任意线程调用都不会阻塞
      *
      * @param entry 定时任务
      * @return boolean {@link Boolean}
      */
     public boolean addTask(TimerTaskEntry entry) {
-        boolean done = false;
-        while (!done) {
-            entry.remove();
-            addLock.lock();
-            try {
-                if (entry.bucket == null) {
-                    entry.bucket = this;
-                    entry.prev = root.prev;
-                    entry.next = root;
-                    root.prev.next = entry;
-                    root.prev = entry;
-                    done = true;
-                }
-            } finally {
-                addLock.unlock();
-            }
-        }
+        entry.bucket = this;
+        entry.prev = null;
+        size.increment();
+        TimerTaskEntry head;
+        do {
+            head = inbox;
+            entry.next = head;
+        } while (!INBOX.compareAndSet(this, head, entry));
         return true;
     }
 
     /**
-     * 从 Bucket 移除指定的 timerTaskEntry
+     * 批量添加一条通过 {@code next} 串好的任务链, 整条链只做一次CAS
+     * <p>
+     * 链上的任务需已指向当前bucket且 {@code prev} 为null
+     *
+     * @param first 链头
+     * @param last  链尾
+     * @param count 任务数
+     */
+    void addAll(TimerTaskEntry first, TimerTaskEntry last, int count) {
+        size.add(count);
+        TimerTaskEntry head;
+        do {
+            head = inbox;
+            last.next = head;
+        } while (!INBOX.compareAndSet(this, head, first));
+    }
+
+    /**
+     * 从 Bucket 移除指定的 timerTaskEntry, 只能由boss线程调用
      *
      * @param entry 定时任务
      */
     public void remove(TimerTaskEntry entry) {
-        removeLock.lock();
-        try {
-            if (entry.getBucket().equals(this)) {
-                entry.next.prev = entry.prev;
-                entry.prev.next = entry.next;
-                entry.next = null;
-                entry.prev = null;
-                entry.bucket = null;
+        if (entry.bucket != this) {
+            return;
+        }
+        if (entry.prev == null) {
+            // 还在写入栈中, 先转移到链表
+            this.drain();
+            if (entry.prev == null) {
+                // 写入还未完成, 由flush时丢弃
+                return;
             }
-        } finally {
-            removeLock.unlock();
         }
+        entry.next.prev = entry.prev;
+        entry.prev.next = entry.next;
+        entry.next = null;
+        entry.prev = null;
+        entry.bucket = null;
+        size.decrement();
     }
 
     /**
-     * 移除所有
+     * 移除所有, 只能由boss线程调用
      */
-    public synchronized void clear(Consumer<TimerTaskEntry> entry) {
+    public void clear(Consumer<TimerTaskEntry> entry) {
+        // 先重置过期时间, 之后写入的任务会重新通知推进引擎
+        expiration.set(-1L);
+        this.drain();
         TimerTaskEntry head = root.next;
-        while (!head.equals(root)) {
-            remove(head);
+        root.next = root;
+        root.prev = root;
+        while (head != root) {
+            TimerTaskEntry next = head.next;
+            head.next = null;
+            head.prev = null;
+            head.bucket = null;
+            size.decrement();
             entry.accept(head);
-            head = root.next;
+            head = next;
         }
-        expiration.set(-1L);
     }
 
-    @Override
-    public long getDelay(TimeUnit unit) {
-        return Math.max(0, unit.convert(expiration.get() - System.currentTimeMillis(), TimeUnit.MILLISECONDS));
-    }
+    // ---------------------------------------------------------------- PRIVATE
 
-    @Override
-    public int compareTo(@NonNull Delayed o) {
-        if (o instanceof Bucket bucket) {
-            return Long.compare(expiration.get(), bucket.expiration.get());
+    /**
+     * 将写入栈中的任务批量转移到链表尾部
+     */
+    private void drain() {
+        TimerTaskEntry head = INBOX.getAndSet(this, null);
+        while (head != null) {
+            TimerTaskEntry next = head.next;
+            head.prev = root.prev;
+            head.next = root;
+            root.prev.next = head;
+            root.prev = head;
+            head = next;
         }
-        return 0;
     }
 }
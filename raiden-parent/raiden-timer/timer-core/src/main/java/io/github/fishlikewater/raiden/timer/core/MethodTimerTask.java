@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.ObjectUtils;
+import io.github.fishlikewater.raiden.core.exception.RaidenException;
+import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CronExpression;
+import io.github.fishlikewater.raiden.timer.core.annotation.TimerTask;
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.MisfirePolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code MethodTimerTask}
+ * {@link TimerTask} 方法对应的定时任务
+ * <p>
+ * 注册时解析为绑定了目标对象的 {@link MethodHandle}, 触发时直接 {@code invokeExact}, 不经过反射调用
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class MethodTimerTask extends BaseTimerTask {
+
+    private final MethodHandle invoker;
+
+    private final ConcurrencyPolicyEnum concurrencyPolicy;
+
+    private final MisfirePolicyEnum misfirePolicy;
+
+    private final TimerLaneEnum lane;
+
+    private final String clusterKey;
+
+    /**
+     * 不参与集群选举, 每个节点都执行
+     *
+     * @param target    方法所属对象, 静态方法可以为null
+     * @param method    无参方法
+     * @param timerTask 注解
+     */
+    public MethodTimerTask(Object target, Method method, TimerTask timerTask) {
+        this(null, target, method, timerTask);
+    }
+
+    /**
+     * @param beanName  方法所属bean名称, 用于区分同一个类的多个bean, 为null时不参与集群选举
+     * @param target    方法所属对象, 静态方法可以为null
+     * @param method    无参方法
+     * @param timerTask 注解
+     */
+    public MethodTimerTask(String beanName, Object target, Method method, TimerTask timerTask) {
+        if (method.getParameterCount() != 0) {
+            throw new RaidenException("@TimerTask method must have no parameters: {}", method);
+        }
+        final boolean cron = ObjectUtils.isNotNullOrEmpty(timerTask.cron());
+        final boolean fixedRate = timerTask.fixedRate() > 0;
+        final boolean fixedDelay = timerTask.fixedDelay() > 0;
+        final boolean delay = timerTask.delay() >= 0;
+        if (fixedRate && fixedDelay) {
+            throw new RaidenException("@TimerTask fixedRate and fixedDelay can not be set at the same time: {}", method);
+        }
+        final boolean repeating = fixedRate || fixedDelay;
+        if (cron ? (repeating || delay) : !(repeating || delay)) {
+            throw new RaidenException("@TimerTask requires either cron, or delay and/or fixedRate/fixedDelay: {}", method);
+        }
+        if (cron && !CronExpression.isValidExpression(timerTask.cron())) {
+            throw new IllegalArgumentException("cornExpression is not valid");
+        }
+        this.invoker = bind(target, method);
+        this.concurrencyPolicy = timerTask.concurrencyPolicy();
+        this.misfirePolicy = timerTask.misfirePolicy();
+        this.lane = timerTask.lane();
+        this.clusterKey = ObjectUtils.isNullOrEmpty(beanName) ? null : beanName + "#" + method.getName();
+        this.setDesc(ObjectUtils.isNotNullOrEmpty(timerTask.desc())
+                ? timerTask.desc()
+                : method.getDeclaringClass().getSimpleName() + "#" + method.getName());
+        if (cron) {
+            this.setCornExpression(timerTask.cron());
+        } else {
+            final TimeUnit timeUnit = timerTask.timeUnit();
+            this.setFixedRateMs(timeUnit.toMillis(Math.max(0, timerTask.fixedRate())));
+            this.setFixedDelayMs(timeUnit.toMillis(Math.max(0, timerTask.fixedDelay())));
+            // 未设置 delay 时首次执行在一个周期之后
+            this.setDelayMs(delay
+                    ? timeUnit.toMillis(timerTask.delay())
+                    : Math.max(this.getFixedRateMs(), this.getFixedDelayMs()));
+        }
+    }
+
+    @Override
+    public ConcurrencyPolicyEnum concurrencyPolicy() {
+        return concurrencyPolicy;
+    }
+
+    @Override
+    public MisfirePolicyEnum misfirePolicy() {
+        return misfirePolicy;
+    }
+
+    @Override
+    public TimerLaneEnum lane() {
+        return lane;
+    }
+
+    @Override
+    public String clusterKey() {
+        return clusterKey;
+    }
+
+    @Override
+    public void run() {
+        try {
+            invoker.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RaidenException(e, "invoke @TimerTask method error: {}", this.getDesc());
+        }
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private static MethodHandle bind(Object target, Method method) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                // 非public方法或类, 需要能够打开访问权限
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                throw new RaidenException(ex, "@TimerTask method is not accessible: {}", method);
+            }
+        }
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(target);
+        }
+        return handle.asType(MethodType.methodType(void.class));
+    }
+}
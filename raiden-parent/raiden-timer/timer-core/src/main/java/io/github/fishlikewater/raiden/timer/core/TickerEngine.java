@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.timer.core.clock.TimerClock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * {@code TickerEngine}
+ * 时间轮推进引擎
+ * <p>
+ * 取代 {@code DelayQueue<Bucket>}: 工作线程睡眠到下一个非空tick, 醒来后一次性清空所有已到期的bucket,
+ * 再扫描各层bucket的过期时间得到下一次唤醒时间, 整个过程不涉及堆操作。
+ * 写入线程只有在新任务比当前唤醒时间更早时才会CAS并唤醒工作线程。
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class TickerEngine {
+
+    private static final AtomicLongFieldUpdater<TickerEngine> NEXT_DEADLINE =
+            AtomicLongFieldUpdater.newUpdater(TickerEngine.class, "nextDeadline");
+
+    /**
+     * 底层时间轮
+     */
+    private final TimeWheel timeWheel;
+
+    /**
+     * 时钟
+     */
+    private final TimerClock clock;
+
+    /**
+     * 已到期的bucket, 只由工作线程使用
+     */
+    private final List<Bucket> expired = new ArrayList<>();
+
+    /**
+     * 下一次唤醒时间
+     */
+    private volatile long nextDeadline = Long.MAX_VALUE;
+
+    /**
+     * 是否有取消的任务需要摘除
+     */
+    private volatile boolean purgeRequested;
+
+    /**
+     * 工作线程
+     */
+    private volatile Thread worker;
+
+    /**
+     * 推进次数
+     */
+    private volatile long ticks;
+
+    public TickerEngine(long tickMs, int wheelSize, TimerClock clock) {
+        this.clock = clock;
+        this.timeWheel = new TimeWheel(tickMs, wheelSize, clock.millis(), this);
+    }
+
+    public TimeWheel getTimeWheel() {
+        return timeWheel;
+    }
+
+    /**
+     * 推进次数, 用于观察空闲时的唤醒频率
+     *
+     * @return 推进次数
+     */
+    public long ticks() {
+        return ticks;
+    }
+
+    /**
+     * 绑定工作线程, 写入线程只会唤醒该线程
+     *
+     * @param worker 工作线程
+     */
+    public void bind(Thread worker) {
+        this.worker = worker;
+    }
+
+    /**
+     * 推进时间轮并清空所有已到期的bucket, 然后计算下一次唤醒时间
+     *
+     * @param now     当前时间
+     * @param flusher bucket中任务的处理(执行或降级)
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public void advance(long now, Consumer<TimerTaskEntry> flusher) {
+        ticks++;
+        purgeRequested = false;
+        timeWheel.advanceLock(now);
+        // 先收集再清空, 降级或重新调度的任务不会写进还未处理的过期bucket
+        for (TimeWheel wheel = timeWheel; wheel != null; wheel = wheel.overflowWheel()) {
+            for (Bucket bucket : wheel.getBuckets()) {
+                final long expiration = bucket.getExpiration();
+                if (expiration >= 0 && expiration <= now) {
+                    expired.add(bucket);
+                }
+            }
+        }
+        for (Bucket bucket : expired) {
+            bucket.clear(flusher);
+        }
+        expired.clear();
+
+        // 先发布"即将睡眠", 再扫描: 扫描之后加入的更早任务会通过CAS降低唤醒时间
+        nextDeadline = Long.MAX_VALUE;
+        this.lowerDeadline(this.scanDeadline());
+    }
+
+    /**
+     * 阻塞到下一次唤醒时间、有更早的任务加入、有任务被取消或超时
+     *
+     * @param timeoutMs 最长等待时间(按 {@link TimerClock} 计)
+     */
+    public void await(long timeoutMs) {
+        final long start = clock.millis();
+        final long limit = timeoutMs >= Long.MAX_VALUE - start ? Long.MAX_VALUE : start + timeoutMs;
+        while (!purgeRequested) {
+            final long deadline = Math.min(nextDeadline, limit);
+            if (deadline <= clock.millis() || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            clock.parkUntil(this, deadline);
+        }
+    }
+
+    /**
+     * bucket被写入任务且过期时间变化时调用
+     *
+     * @param expiration bucket的过期时间
+     */
+    void schedule(long expiration) {
+        if (this.lowerDeadline(expiration)) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * 有任务被取消, 唤醒工作线程摘除
+     */
+    void wakeup() {
+        if (!purgeRequested) {
+            purgeRequested = true;
+            LockSupport.unpark(worker);
+        }
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private boolean lowerDeadline(long deadline) {
+        long current;
+        while (deadline < (current = nextDeadline)) {
+            if (NEXT_DEADLINE.compareAndSet(this, current, deadline)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long scanDeadline() {
+        long deadline = Long.MAX_VALUE;
+        for (TimeWheel wheel = timeWheel; wheel != null; wheel = wheel.overflowWheel()) {
+            for (Bucket bucket : wheel.getBuckets()) {
+                final long expiration = bucket.getExpiration();
+                if (expiration >= 0 && expiration < deadline) {
+                    deadline = expiration;
+                }
+            }
+        }
+        return deadline;
+    }
+}
@@ -20,8 +20,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.DelayQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * {@code TimeWheel}
@@ -60,7 +64,7 @@ public class TimeWheel {
     /**
      * 时间轮指针
      */
-    private long currentTime;
+    private volatile long currentTime;
 
     /**
      * 上层时间轮
@@ -68,17 +72,33 @@ public class TimeWheel {
     private volatile TimeWheel overflowWheel;
 
     /**
-     * 延迟队列 协助推进时间轮
+     * 推进引擎(各层时间轮共享), bucket有新的过期时间时通知它
      */
-    private DelayQueue<Bucket> delayQueue;
+    private TickerEngine engine;
 
-    public TimeWheel(long tickMs, int wheelSize, long currentTime, DelayQueue<Bucket> delayQueue) {
+    /**
+     * 存活任务数(各层时间轮共享)
+     */
+    private LongAdder taskCounter;
+
+    /**
+     * 已取消待摘除的任务(各层时间轮共享)
+     */
+    private Queue<TimerTaskEntry> cancelledQueue;
+
+    public TimeWheel(long tickMs, int wheelSize, long currentTime, TickerEngine engine) {
+        this(tickMs, wheelSize, currentTime, engine, new LongAdder(), new ConcurrentLinkedQueue<>());
+    }
+
+    private TimeWheel(long tickMs, int wheelSize, long currentTime, TickerEngine engine, LongAdder taskCounter, Queue<TimerTaskEntry> cancelledQueue) {
         this.tickMs = tickMs;
         this.wheelSize = wheelSize;
         this.interval = tickMs * wheelSize;
         this.buckets = new Bucket[wheelSize];
         this.currentTime = currentTime - (currentTime % tickMs);
-        this.delayQueue = delayQueue;
+        this.engine = engine;
+        this.taskCounter = taskCounter;
+        this.cancelledQueue = cancelledQueue;
 
         for (int i = 0; i < wheelSize; i++) {
             buckets[i] = new Bucket();
@@ -104,6 +124,10 @@ public class TimeWheel {
      * @return 是否添加成功
      */
     public boolean addTask(TimerTaskEntry entry) {
+        if (entry.timeWheel == null) {
+            entry.timeWheel = this;
+            taskCounter.increment();
+        }
         long expireMs = entry.getExpireMs();
         long delayMs = expireMs - currentTime;
         if (delayMs < tickMs) {
@@ -115,6 +139,124 @@ public class TimeWheel {
         return true;
     }
 
+    /**
+     * 批量添加任务, 同一个bucket的任务先串成一条链再一次性写入, bucket过期时间也只设置一次
+     *
+     * @param entries 定时任务, 调用后内容会被重排
+     * @param expired 已到期任务的处理
+     */
+    public void addAll(List<TimerTaskEntry> entries, Consumer<TimerTaskEntry> expired) {
+        final TimerTaskEntry[] heads = new TimerTaskEntry[wheelSize];
+        final TimerTaskEntry[] tails = new TimerTaskEntry[wheelSize];
+        final int[] counts = new int[wheelSize];
+        final long[] virtualIds = new long[wheelSize];
+        final long now = currentTime;
+        // 需要放入上层时间轮的任务原地前移, 不额外分配列表
+        int overflow = 0;
+        int registered = 0;
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            TimerTaskEntry entry = entries.get(i);
+            if (entry.timeWheel == null) {
+                entry.timeWheel = this;
+                registered++;
+            }
+            long expireMs = entry.getExpireMs();
+            long delayMs = expireMs - now;
+            if (delayMs < tickMs) {
+                expired.accept(entry);
+                continue;
+            }
+            if (delayMs >= interval) {
+                entries.set(overflow++, entry);
+                continue;
+            }
+            long virtualId = expireMs / tickMs;
+            int index = (int) (virtualId % wheelSize);
+            if (heads[index] == null) {
+                tails[index] = entry;
+                virtualIds[index] = virtualId;
+            } else if (virtualIds[index] != virtualId) {
+                // 同一次调用中当前时间固定, 不会出现, 防御性地退回单个写入
+                this.addTaskToBucket(entry, expireMs, delayMs);
+                continue;
+            }
+            entry.bucket = buckets[index];
+            entry.prev = null;
+            entry.next = heads[index];
+            heads[index] = entry;
+            counts[index]++;
+        }
+        taskCounter.add(registered);
+
+        for (int index = 0; index < wheelSize; index++) {
+            if (heads[index] == null) {
+                continue;
+            }
+            Bucket bucket = buckets[index];
+            bucket.addAll(heads[index], tails[index], counts[index]);
+            long expiration = virtualIds[index] * tickMs;
+            if (bucket.setExpiration(expiration)) {
+                engine.schedule(expiration);
+            }
+        }
+        if (overflow > 0) {
+            this.getOverflowWheel().addAll(entries.subList(0, overflow), expired);
+        }
+    }
+
+    /**
+     * 从bucket中摘除已取消的任务, 只能由boss线程调用
+     *
+     * @param consumer 摘除后的回调
+     */
+    public void purgeCancelled(Consumer<TimerTaskEntry> consumer) {
+        TimerTaskEntry entry;
+        while ((entry = cancelledQueue.poll()) != null) {
+            entry.remove();
+            consumer.accept(entry);
+        }
+    }
+
+    /**
+     * 统计当前及上层时间轮各层的任务数
+     *
+     * @return 下标为层级(0为最底层)的任务数
+     */
+    public long[] levelOccupancy() {
+        int levels = 0;
+        for (TimeWheel wheel = this; wheel != null; wheel = wheel.overflowWheel) {
+            levels++;
+        }
+        long[] counts = new long[levels];
+        TimeWheel wheel = this;
+        for (int i = 0; i < levels && wheel != null; i++, wheel = wheel.overflowWheel) {
+            for (Bucket bucket : wheel.buckets) {
+                counts[i] += bucket.size();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 取消任务, 由 {@link TimerTaskEntry#cancel()} 调用
+     *
+     * @param entry 已取消的任务
+     */
+    void cancel(TimerTaskEntry entry) {
+        taskCounter.decrement();
+        cancelledQueue.offer(entry);
+        engine.wakeup();
+    }
+
+    /**
+     * 已创建的上层时间轮, 不会触发创建
+     *
+     * @return 上层时间轮, 可能为null
+     */
+    TimeWheel overflowWheel() {
+        return overflowWheel;
+    }
+
     private TimeWheel getOverflowWheel() {
         if (Objects.nonNull(this.overflowWheel)) {
             return this.overflowWheel;
@@ -139,8 +281,9 @@ public class TimeWheel {
                 log.error("addTaskToBucket error");
                 return;
             }
-            if (bucket.setExpiration(virtualId * tickMs)) {
-                delayQueue.offer(bucket);
+            long expiration = virtualId * tickMs;
+            if (bucket.setExpiration(expiration)) {
+                engine.schedule(expiration);
             }
         } else {
             TimeWheel timeWheel = this.getOverflowWheel();
@@ -149,14 +292,15 @@ public class TimeWheel {
     }
 
     private void determineOverflowWheel(long timestamp) {
-        if (this.getOverflowWheel() != null) {
-            this.getOverflowWheel().advanceLock(timestamp);
+        // 只推进已存在的上层时间轮, 上层时间轮在首次需要时才创建
+        if (overflowWheel != null) {
+            overflowWheel.advanceLock(timestamp);
         }
     }
 
     private void buildOverflowWheel() {
         if (overflowWheel == null) {
-            overflowWheel = new TimeWheel(interval, wheelSize, currentTime, delayQueue);
+            overflowWheel = new TimeWheel(interval, wheelSize, currentTime, engine, taskCounter, cancelledQueue);
         }
     }
 
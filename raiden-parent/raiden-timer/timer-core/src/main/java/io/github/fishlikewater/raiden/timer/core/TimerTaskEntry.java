@@ -15,35 +15,69 @@
  */
 package io.github.fishlikewater.raiden.timer.core;
 
-import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CronExpression;
-import lombok.Data;
+import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CompiledCronExpression;
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.timer.Timeout;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
  * {@code TimerTaskEntry}
  * 定时任务
+ * <p>
+ * 每个等待中的任务都对应一个entry, 字段尽量紧凑: 生命周期与执行状态合并在一个int中,
+ * 只有corn、重复和持久化任务才需要的字段放在按需创建的 {@link Attachment} 中
+ * <p>
+ * 不使用 {@code @Data}: equals/hashCode 按对象标识比较, 不会沿着链表指针和任务对象递归
  *
  * @author zhangxiang
  * @since 2024/04/03
  * @version 1.0.0
  */
-@Data
 @Slf4j
 @SuppressWarnings("unused")
-public class TimerTaskEntry implements Comparable<TimerTaskEntry> {
+public class TimerTaskEntry implements Comparable<TimerTaskEntry>, Timeout {
+
+    /**
+     * 低2位为生命周期
+     */
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+    private static final int ST_MASK = 0b11;
+
+    /**
+     * 2~3位为执行状态, 用于 {@link ConcurrencyPolicyEnum} 控制重叠执行
+     */
+    private static final int RUN_IDLE = 0;
+    private static final int RUN_RUNNING = 1 << 2;
+    private static final int RUN_QUEUED = 2 << 2;
+    private static final int RUN_MASK = 0b11 << 2;
+
+    private static final AtomicIntegerFieldUpdater<TimerTaskEntry> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(TimerTaskEntry.class, "state");
 
     volatile Bucket bucket;
 
+    /**
+     * 首次加入的时间轮, 用于维护任务计数和回收已取消的任务
+     */
+    volatile TimeWheel timeWheel;
+
+    private volatile int state;
+
     TimerTaskEntry next;
 
     TimerTaskEntry prev;
 
     private BaseTimerTask baseTimerTask;
 
-    private CronExpression cronExpression;
-
     private long expireMs;
 
+    private Attachment attachment;
+
     public TimerTaskEntry() {}
 
     public TimerTaskEntry(BaseTimerTask baseTimerTask, long expireMs) {
@@ -53,11 +87,184 @@ public class TimerTaskEntry implements Comparable<TimerTaskEntry> {
         this.prev = null;
     }
 
+    @Override
+    public BaseTimerTask task() {
+        return baseTimerTask;
+    }
+
+    @Override
+    public boolean isExpired() {
+        return (state & ST_MASK) == ST_EXPIRED;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return (state & ST_MASK) == ST_CANCELLED;
+    }
+
+    @Override
+    public boolean cancel() {
+        if (!this.transit(ST_INIT, ST_CANCELLED)) {
+            return false;
+        }
+        TimeWheel wheel = timeWheel;
+        if (wheel != null) {
+            wheel.cancel(this);
+        }
+        return true;
+    }
+
+    /**
+     * 触发时按并发策略判断是否需要提交执行
+     *
+     * @param policy 并发策略
+     * @return true 需要提交; false 上一次还在执行, 本次被丢弃或已排队
+     */
+    public boolean tryRun(ConcurrencyPolicyEnum policy) {
+        if (policy == ConcurrencyPolicyEnum.ALLOW_PARALLEL) {
+            return true;
+        }
+        for (; ; ) {
+            final int current = state;
+            final int run = current & RUN_MASK;
+            if (run == RUN_IDLE) {
+                if (STATE.compareAndSet(this, current, current | RUN_RUNNING)) {
+                    return true;
+                }
+            } else if (policy == ConcurrencyPolicyEnum.QUEUE_ONE && run == RUN_RUNNING) {
+                if (STATE.compareAndSet(this, current, (current & ~RUN_MASK) | RUN_QUEUED)) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 一次执行结束, 返回true时由当前线程继续执行排队的那一次
+     *
+     * @param policy 并发策略
+     * @return 是否还有排队的执行
+     */
+    public boolean finishRun(ConcurrencyPolicyEnum policy) {
+        if (policy == ConcurrencyPolicyEnum.ALLOW_PARALLEL) {
+            return false;
+        }
+        for (; ; ) {
+            final int current = state;
+            if ((current & RUN_MASK) == RUN_QUEUED) {
+                if (STATE.compareAndSet(this, current, (current & ~RUN_MASK) | RUN_RUNNING)) {
+                    return true;
+                }
+            } else if (STATE.compareAndSet(this, current, current & ~RUN_MASK)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 标记为已到期, 只有第一次调用返回true(已取消的任务返回false)
+     *
+     * @return 是否需要执行
+     */
+    public boolean expire() {
+        if (!this.transit(ST_INIT, ST_EXPIRED)) {
+            return false;
+        }
+        TimeWheel wheel = timeWheel;
+        if (wheel != null) {
+            wheel.getTaskCounter().decrement();
+        }
+        return true;
+    }
+
+    /**
+     * 已到期的entry恢复为初始状态, 由同一个任务再次调度时复用
+     *
+     * @return 是否可以复用, 未到期或已取消时返回false
+     */
+    public boolean recycle() {
+        if (!this.transit(ST_EXPIRED, ST_INIT)) {
+            return false;
+        }
+        TimeWheel wheel = timeWheel;
+        if (wheel != null) {
+            wheel.getTaskCounter().increment();
+        }
+        return true;
+    }
+
+    public BaseTimerTask getBaseTimerTask() {
+        return baseTimerTask;
+    }
+
+    public long getExpireMs() {
+        return expireMs;
+    }
+
+    public void setExpireMs(long expireMs) {
+        this.expireMs = expireMs;
+    }
+
+    public CompiledCronExpression getCronExpression() {
+        return Objects.isNull(attachment) ? null : attachment.cronExpression;
+    }
+
+    public void setCronExpression(CompiledCronExpression cronExpression) {
+        if (Objects.nonNull(cronExpression) || Objects.nonNull(attachment)) {
+            this.attachment().cronExpression = cronExpression;
+        }
+    }
+
+    /**
+     * 任务日志中的id, 0表示未持久化
+     */
+    public long getJournalId() {
+        return Objects.isNull(attachment) ? 0 : attachment.journalId;
+    }
+
+    public void setJournalId(long journalId) {
+        if (journalId != 0 || Objects.nonNull(attachment)) {
+            this.attachment().journalId = journalId;
+        }
+    }
+
+    /**
+     * 重复任务已触发的次数
+     */
+    public long getRepeats() {
+        return Objects.isNull(attachment) ? 0 : attachment.repeats;
+    }
+
+    public void setRepeats(long repeats) {
+        if (repeats != 0 || Objects.nonNull(attachment)) {
+            this.attachment().repeats = repeats;
+        }
+    }
+
+    /**
+     * 重复任务累计的触发延迟 ms(实际触发时间 - 计划时间)
+     * <p>
+     * 下次到期时间按计划时间推算, 延迟不会叠加到后续周期, 该值只用于观察
+     */
+    public long getDriftMs() {
+        return Objects.isNull(attachment) ? 0 : attachment.driftMs;
+    }
+
+    public void setDriftMs(long driftMs) {
+        if (driftMs != 0 || Objects.nonNull(attachment)) {
+            this.attachment().driftMs = driftMs;
+        }
+    }
+
+    /**
+     * 从所在的bucket中移除, 只能由boss线程调用
+     */
     void remove() {
         Bucket currentBucket = bucket;
-        while (currentBucket != null) {
+        if (currentBucket != null) {
             currentBucket.remove(this);
-            currentBucket = bucket;
         }
     }
 
@@ -65,4 +272,45 @@ public class TimerTaskEntry implements Comparable<TimerTaskEntry> {
     public int compareTo(TimerTaskEntry o) {
         return ((int) (this.expireMs - o.expireMs));
     }
-}
\ No newline at end of file
+
+    @Override
+    public String toString() {
+        return "TimerTaskEntry(expireMs=" + expireMs + ", state=" + state + ")";
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private boolean transit(int from, int to) {
+        for (; ; ) {
+            final int current = state;
+            if ((current & ST_MASK) != from) {
+                return false;
+            }
+            if (STATE.compareAndSet(this, current, (current & ~ST_MASK) | to)) {
+                return true;
+            }
+        }
+    }
+
+    private Attachment attachment() {
+        Attachment current = attachment;
+        if (Objects.isNull(current)) {
+            current = attachment = new Attachment();
+        }
+        return current;
+    }
+
+    /**
+     * 一次性任务用不到的字段
+     */
+    private static final class Attachment {
+
+        private CompiledCronExpression cronExpression;
+
+        private long journalId;
+
+        private long repeats;
+
+        private long driftMs;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.annotation;
+
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.MisfirePolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TimerTask}
+ * 将无参方法声明为定时任务, {@code delay}、{@code cron}、{@code fixedRate}、{@code fixedDelay} 至少设置一个
+ * <p>
+ * {@code cron} 不能与其它几个同时使用, {@code fixedRate} 与 {@code fixedDelay} 不能同时使用;
+ * 重复任务同时设置 {@code delay} 时, {@code delay} 为首次执行的延时
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TimerTask {
+
+    /**
+     * 延时执行, 小于0表示未设置
+     */
+    long delay() default -1L;
+
+    /**
+     * corn表达式
+     */
+    String cron() default "";
+
+    /**
+     * 固定频率重复执行的间隔, 小于等于0表示未设置
+     */
+    long fixedRate() default -1L;
+
+    /**
+     * 固定延迟重复执行的间隔, 上一次执行结束后开始计时, 小于等于0表示未设置
+     */
+    long fixedDelay() default -1L;
+
+    /**
+     * {@code delay}、{@code fixedRate}、{@code fixedDelay} 的时间单位
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 任务描述, 默认为 类名#方法名
+     */
+    String desc() default "";
+
+    ConcurrencyPolicyEnum concurrencyPolicy() default ConcurrencyPolicyEnum.ALLOW_PARALLEL;
+
+    MisfirePolicyEnum misfirePolicy() default MisfirePolicyEnum.FIRE_ONCE;
+
+    TimerLaneEnum lane() default TimerLaneEnum.NORMAL;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.clock;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@code TimerClock}
+ * 定时器时钟, 时间轮推进、任务到期时间与指标都以它为准
+ * <p>
+ * 默认使用系统时钟, 测试或压测时可以换成 {@link VirtualTimerClock} 瞬间推进时间
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public interface TimerClock {
+
+    TimerClock SYSTEM = new SystemTimerClock();
+
+    /**
+     * 当前时间
+     *
+     * @return epoch毫秒
+     */
+    long millis();
+
+    /**
+     * 阻塞当前线程直到时钟到达 {@code deadlineMs}, 允许提前返回(被 {@link LockSupport#unpark} 唤醒或中断)
+     *
+     * @param blocker    阻塞对象, 用于线程诊断
+     * @param deadlineMs 截止时间(epoch毫秒)
+     */
+    void parkUntil(Object blocker, long deadlineMs);
+}
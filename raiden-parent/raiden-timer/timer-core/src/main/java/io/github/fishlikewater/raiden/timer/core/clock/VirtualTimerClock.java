@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.clock;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@code VirtualTimerClock}
+ * 虚拟时钟, 时间只在调用 {@link #advance(Duration)} 时前进
+ * <p>
+ * 时间前进后会唤醒所有等待中的boss线程; 需要确定性结果时, 可以在每次推进后直接调用
+ * {@code TimerLauncher#advanceClock(0)} 在当前线程处理到期任务
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class VirtualTimerClock implements TimerClock {
+
+    private final AtomicLong now;
+
+    private final Set<Thread> parked = ConcurrentHashMap.newKeySet();
+
+    public VirtualTimerClock() {
+        this(System.currentTimeMillis());
+    }
+
+    public VirtualTimerClock(long startMs) {
+        this.now = new AtomicLong(startMs);
+    }
+
+    @Override
+    public long millis() {
+        return now.get();
+    }
+
+    @Override
+    public void parkUntil(Object blocker, long deadlineMs) {
+        final Thread thread = Thread.currentThread();
+        // 先登记再检查时间, advance 在两者之间发生时 unpark 的许可会让 park 立即返回
+        parked.add(thread);
+        try {
+            if (now.get() < deadlineMs) {
+                LockSupport.park(blocker);
+            }
+        } finally {
+            parked.remove(thread);
+        }
+    }
+
+    /**
+     * 时间前进
+     *
+     * @param duration 前进的时长
+     * @return 前进后的时间
+     */
+    public long advance(Duration duration) {
+        return this.advanceTo(now.get() + duration.toMillis());
+    }
+
+    /**
+     * 时间前进到指定时刻, 不会后退
+     *
+     * @param epochMillis 目标时间
+     * @return 前进后的时间
+     */
+    public long advanceTo(long epochMillis) {
+        final long current = now.accumulateAndGet(epochMillis, Math::max);
+        for (Thread thread : parked) {
+            LockSupport.unpark(thread);
+        }
+        return current;
+    }
+}
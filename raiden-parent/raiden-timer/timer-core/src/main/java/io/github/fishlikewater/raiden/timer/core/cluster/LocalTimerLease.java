@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.cluster;
+
+import io.github.fishlikewater.raiden.timer.core.clock.TimerClock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code LocalTimerLease}
+ * 进程内的租约实现, 多个 {@code TimerLauncher} 共享同一个实例即可模拟多节点, 用于测试或单机部署
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class LocalTimerLease implements TimerLease {
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    private final TimerClock clock;
+
+    /**
+     * 下次清理过期租约的时间
+     */
+    private volatile long nextPurgeMs;
+
+    public LocalTimerLease() {
+        this(TimerClock.SYSTEM);
+    }
+
+    public LocalTimerLease(TimerClock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, long leaseMs) {
+        final long now = clock.millis();
+        final Lease lease = new Lease(now + leaseMs);
+        this.purge(now, leaseMs);
+        return leases.compute(key, (k, held) -> held == null || held.expireMs() <= now ? lease : held) == lease;
+    }
+
+    /**
+     * 当前持有的租约数(含已过期未清理的)
+     *
+     * @return 租约数
+     */
+    public int size() {
+        return leases.size();
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private void purge(long now, long leaseMs) {
+        if (now < nextPurgeMs) {
+            return;
+        }
+        nextPurgeMs = now + leaseMs;
+        leases.values().removeIf(held -> held.expireMs() <= now);
+    }
+
+    private record Lease(long expireMs) {
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.cluster;
+
+/**
+ * {@code TimerLease}
+ * 集群租约, 同一个key在租约有效期内只有一个节点能获取成功
+ * <p>
+ * 语义与 redis {@code SET key value NX PX leaseMs} 相同, 只会在工作线程中调用, 不会阻塞boss线程
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public interface TimerLease {
+
+    /**
+     * 尝试获取租约, 获取失败或key已被其它节点持有时返回false
+     *
+     * @param key     租约key
+     * @param leaseMs 租约时长(毫秒), 到期后自动释放
+     * @return 是否获取成功
+     */
+    boolean tryAcquire(String key, long leaseMs);
+}
@@ -15,8 +15,13 @@
  */
 package io.github.fishlikewater.raiden.timer.core.config;
 
+import io.github.fishlikewater.raiden.core.SystemPropertyUtil;
+import io.github.fishlikewater.raiden.timer.core.clock.TimerClock;
+import io.github.fishlikewater.raiden.timer.core.cluster.TimerLease;
+import io.github.fishlikewater.raiden.timer.core.enums.FsyncPolicyEnum;
 import lombok.Data;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 /**
@@ -31,12 +36,148 @@ import java.time.Duration;
 @Data
 public class TimerConfig {
 
+    /**
+     * 时间轮每一格的时间跨度, 按毫秒取整, 至少1ms
+     */
     private Duration tickMs;
 
     private int wheelSize;
 
     /**
      * 始终推进间隔
+     * <p>
+     * 推进引擎会睡眠到下一个非空tick, boss线程不再按该间隔轮询, 仅保留兼容
      */
     private Duration clock;
+
+    /**
+     * 时钟, 测试时可替换为 {@code VirtualTimerClock}
+     */
+    private TimerClock timerClock = TimerClock.SYSTEM;
+
+    /**
+     * 时间轮分片数, 每个分片独立推进, 小于等于0时按CPU核数分片
+     */
+    private int shards = 1;
+
+    /**
+     * 任务执行时间晚于到期时间超过该阈值视为错过触发, 按任务的 {@code misfirePolicy()} 处理
+     */
+    private Duration misfireThreshold = Duration.ofSeconds(1);
+
+    /**
+     * 工作线程配置, 对应 {@code NORMAL} 通道
+     */
+    private Worker worker = new Worker();
+
+    /**
+     * {@code CRITICAL} 通道的工作线程配置
+     */
+    private Worker criticalWorker = Worker.platform(8);
+
+    /**
+     * {@code BULK} 通道的工作线程配置
+     */
+    private Worker bulkWorker = Worker.platform(4);
+
+    /**
+     * 同一个任务到期后再次添加时复用原来的entry, 不再分配新的
+     * <p>
+     * 开启后该任务之前返回的 {@code Timeout} 指向新的调度, 对它调用 {@code cancel()} 会取消新的调度
+     */
+    private boolean recycleEntries;
+
+    /**
+     * 任务持久化配置
+     */
+    private Journal journal = new Journal();
+
+    /**
+     * 集群配置
+     */
+    private Cluster cluster = new Cluster();
+
+    /**
+     * 集群租约, 开启 {@code cluster.enabled} 时必须设置
+     */
+    private TimerLease timerLease;
+
+    @Data
+    public static class Worker {
+
+        /**
+         * 是否使用虚拟线程, 关闭时使用固定数量的平台线程
+         */
+        private boolean virtual = true;
+
+        /**
+         * 最大并发执行的任务数
+         */
+        private int threads = 256;
+
+        /**
+         * 等待执行的任务队列容量, 队列已满时丢弃任务
+         */
+        private int queueCapacity = 10_000;
+
+        static Worker platform(int threads) {
+            final Worker worker = new Worker();
+            worker.setVirtual(false);
+            worker.setThreads(threads);
+            return worker;
+        }
+    }
+
+    @Data
+    public static class Journal {
+
+        /**
+         * 是否开启持久化, 开启后 {@code durable()} 的任务会写入日志, 重启时恢复
+         */
+        private boolean enabled;
+
+        /**
+         * 日志目录
+         */
+        private String dir = Path.of(SystemPropertyUtil.getUserDir(), "timer-journal").toString();
+
+        /**
+         * 单个分段文件大小(字节)
+         */
+        private int segmentSize = 64 * 1024 * 1024;
+
+        /**
+         * 刷盘策略
+         */
+        private FsyncPolicyEnum fsync = FsyncPolicyEnum.BATCH;
+
+        /**
+         * BATCH 策略下多少条记录刷盘一次
+         */
+        private int batchSize = 64;
+
+        /**
+         * INTERVAL 策略下的刷盘间隔
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Cluster {
+
+        /**
+         * 是否开启集群模式, 开启后corn任务的每次触发只由获取到租约的一个节点执行
+         */
+        private boolean enabled;
+
+        /**
+         * 租约时长, 需大于节点间的时钟偏差与触发延迟
+         */
+        private Duration leaseTime = Duration.ofSeconds(30);
+
+        /**
+         * 租约key前缀, 完整key为 前缀 + 任务key + ":" + 计划触发时间
+         */
+        private String keyPrefix = "raiden:timer:lease:";
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.enums;
+
+/**
+ * {@code ConcurrencyPolicyEnum}
+ * 任务上一次执行还未结束时再次触发的处理策略
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public enum ConcurrencyPolicyEnum {
+
+    // 正在执行时丢弃本次触发
+    SKIP_IF_RUNNING,
+    // 正在执行时最多保留一次触发, 上一次结束后立即执行, 多余的触发丢弃
+    QUEUE_ONE,
+    // 不做限制, 每次触发都提交执行
+    ALLOW_PARALLEL,
+
+    ;
+
+    ConcurrencyPolicyEnum() {
+
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.enums;
+
+/**
+ * {@code FsyncPolicyEnum}
+ * 任务日志刷盘策略
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public enum FsyncPolicyEnum {
+
+    // 每条记录刷盘, 最可靠但添加任务最慢
+    PER_OP,
+    // 累计 batchSize 条记录刷盘一次
+    BATCH,
+    // 后台线程按 flushInterval 定时刷盘
+    INTERVAL,
+
+    ;
+
+    FsyncPolicyEnum() {
+
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.enums;
+
+/**
+ * {@code MisfirePolicyEnum}
+ * 任务错过触发时间(GC停顿、boss线程阻塞等导致超过 {@code misfireThreshold})时的处理策略
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public enum MisfirePolicyEnum {
+
+    // 立即执行一次, corn任务错过的其余触发时间不再补偿
+    FIRE_ONCE,
+    // 立即执行一次, 并在同一个工作线程中依次补偿corn/固定频率任务错过的每一次触发
+    FIRE_ALL,
+    // 放弃本次执行, corn任务等待下一个触发时间
+    SKIP,
+
+    ;
+
+    MisfirePolicyEnum() {
+
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.enums;
+
+/**
+ * {@code TimerLaneEnum}
+ * 任务执行通道, 每个通道使用独立的工作线程池, 互不抢占
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public enum TimerLaneEnum {
+
+    // 延迟敏感的任务, 如超时控制, 默认使用平台线程, 不受虚拟线程carrier被占满的影响
+    CRITICAL,
+    // 普通任务
+    NORMAL,
+    // 耗时的批量任务, 默认使用平台线程, 同步块/IO不会占住虚拟线程的carrier
+    BULK,
+
+    ;
+
+    TimerLaneEnum() {
+
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.journal;
+
+import lombok.Data;
+
+/**
+ * {@code JournalRecord}
+ * 日志中仍然存活的调度记录
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Data
+public class JournalRecord {
+
+    /**
+     * 日志分配的任务id
+     */
+    private long id;
+
+    /**
+     * 到期时间
+     */
+    private long expireMs;
+
+    /**
+     * 任务类型(类名)
+     */
+    private String taskType;
+
+    /**
+     * corn表达式
+     */
+    private String cronExpression;
+
+    /**
+     * 任务数据
+     */
+    private String payload;
+}
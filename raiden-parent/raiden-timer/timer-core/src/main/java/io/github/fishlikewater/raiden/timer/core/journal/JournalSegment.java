@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.journal;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@code JournalSegment}
+ * 内存映射的日志分段文件
+ * <p>
+ * 删除前先通过 {@code sun.misc.Unsafe#invokeCleaner} 解除映射; 该方法不可用时映射要等到缓冲区被GC回收才释放,
+ * Windows 下删除会失败并保留文件, 其它系统文件被删除但磁盘空间要到映射释放后才回收
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class JournalSegment {
+
+    private static final Object UNSAFE;
+
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> type = Class.forName("sun.misc.Unsafe");
+            final Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 无法解除映射, 由GC回收
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * 分段序号, 同时决定文件名
+     */
+    final long index;
+
+    final Path path;
+
+    final MappedByteBuffer buffer;
+
+    /**
+     * 写入位置
+     */
+    int position;
+
+    /**
+     * 本分段中仍然存活的调度记录数
+     */
+    int live;
+
+    private JournalSegment(long index, Path path, MappedByteBuffer buffer) {
+        this.index = index;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment open(Path path, long index, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final long mapSize = Math.max(channel.size(), size);
+            return new JournalSegment(index, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize));
+        }
+    }
+
+    boolean hasRemaining(int bytes) {
+        return position + bytes <= buffer.capacity();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * 解除映射并删除文件, 调用后不能再访问 {@link #buffer}
+     */
+    void delete() throws IOException {
+        this.unmap();
+        Files.deleteIfExists(path);
+    }
+
+    private void unmap() {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 解除失败时由GC回收映射
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.journal;
+
+import io.github.fishlikewater.raiden.core.exception.RaidenException;
+import io.github.fishlikewater.raiden.core.thread.NamedThreadFactory;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.FsyncPolicyEnum;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * {@code TimerJournal}
+ * 定时任务日志
+ * <p>
+ * 调度、取消、执行记录顺序追加到内存映射的分段文件中, 启动时回放得到仍然存活的任务。
+ * 最老的分段在其记录全部执行或取消后删除; 切换分段时会把最老分段中仍存活的记录搬到新分段,
+ * 避免长期存活的 corn 任务让日志无限增长。重复任务每次重新调度追加一条同id的调度记录, 回放时以最后一条为准。
+ * <p>
+ * 记录格式: {@code [int 长度][int crc32][byte 操作][long id][调度数据]}
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Slf4j
+public class TimerJournal implements Closeable {
+
+    private static final byte OP_SCHEDULE = 1;
+    private static final byte OP_CANCEL = 2;
+    private static final byte OP_FIRE = 3;
+
+    /**
+     * 记录头: 长度 + crc
+     */
+    private static final int HEADER_SIZE = 8;
+
+    private static final String SUFFIX = ".journal";
+
+    private final TimerConfig.Journal config;
+
+    private final Path dir;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 分段, 按序号从老到新
+     */
+    private final Deque<JournalSegment> segments = new ArrayDeque<>();
+
+    /**
+     * 存活任务id -> 调度记录位置
+     */
+    private final Map<Long, RecordRef> liveIndex = new HashMap<>();
+
+    private final ScheduledExecutorService flusher;
+
+    private JournalSegment active;
+
+    private List<JournalRecord> recovered;
+
+    private long sequence;
+
+    private int unflushed;
+
+    public TimerJournal(TimerConfig.Journal config) {
+        this.config = config;
+        this.dir = Path.of(config.getDir());
+        try {
+            Files.createDirectories(dir);
+            this.recovered = this.load();
+        } catch (IOException e) {
+            throw new RaidenException(e, "open timer journal error: {}", dir);
+        }
+        if (config.getFsync() == FsyncPolicyEnum.INTERVAL) {
+            final long interval = config.getFlushInterval().toMillis();
+            this.flusher = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("timer-journal"));
+            this.flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * 获取启动时回放出的存活任务, 只能获取一次
+     *
+     * @return 存活的调度记录
+     */
+    public List<JournalRecord> recover() {
+        lock.lock();
+        try {
+            final List<JournalRecord> records = this.recovered;
+            this.recovered = List.of();
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 记录调度
+     *
+     * @param expireMs       到期时间
+     * @param taskType       任务类型
+     * @param cronExpression corn表达式
+     * @param payload        任务数据
+     * @return 任务id
+     */
+    public long schedule(long expireMs, String taskType, String cronExpression, String payload) {
+        lock.lock();
+        try {
+            final long id = ++sequence;
+            final RecordRef ref = this.append(this.encode(OP_SCHEDULE, id, expireMs, taskType, cronExpression, payload));
+            ref.segment.live++;
+            liveIndex.put(id, ref);
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 记录重复任务的下次到期时间, 追加一条同id的调度记录, 回放时以最后一条为准
+     *
+     * @param id       任务id
+     * @param expireMs 下次到期时间
+     */
+    public void reschedule(long id, long expireMs) {
+        lock.lock();
+        try {
+            final RecordRef ref = liveIndex.get(id);
+            if (ref == null) {
+                return;
+            }
+            final byte[] body = this.read(ref.segment, ref.offset);
+            // 跳过 [byte 操作][long id]
+            ByteBuffer.wrap(body).putLong(9, expireMs);
+            final RecordRef moved = this.append(body);
+            // 切换分段时原记录可能已被搬走, 以当前位置为准
+            liveIndex.put(id, moved).segment.live--;
+            moved.segment.live++;
+            this.compact();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 记录执行
+     *
+     * @param id 任务id
+     */
+    public void fire(long id) {
+        this.terminate(OP_FIRE, id);
+    }
+
+    /**
+     * 记录取消
+     *
+     * @param id 任务id
+     */
+    public void cancel(long id) {
+        this.terminate(OP_CANCEL, id);
+    }
+
+    /**
+     * 刷盘
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            active.force();
+            unflushed = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前分段数量
+     *
+     * @return 分段数量
+     */
+    public int segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        this.flush();
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private void terminate(byte op, long id) {
+        lock.lock();
+        try {
+            final RecordRef ref = liveIndex.remove(id);
+            if (ref == null) {
+                return;
+            }
+            this.append(this.encode(op, id, 0, null, null, null));
+            ref.segment.live--;
+            this.compact();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private RecordRef append(byte[] body) {
+        final int size = HEADER_SIZE + body.length;
+        if (size > config.getSegmentSize()) {
+            throw new RaidenException("timer journal record too large: {} bytes", size);
+        }
+        if (!active.hasRemaining(size)) {
+            this.roll();
+        }
+        final RecordRef ref = this.write(body);
+        this.syncIfNecessary();
+        return ref;
+    }
+
+    private RecordRef write(byte[] body) {
+        final JournalSegment segment = this.active;
+        final int offset = segment.position;
+        final CRC32 crc = new CRC32();
+        crc.update(body);
+        // 先写数据再写长度, 回放时长度为0即视为结尾
+        segment.buffer.put(offset + HEADER_SIZE, body);
+        segment.buffer.putInt(offset + 4, (int) crc.getValue());
+        segment.buffer.putInt(offset, body.length);
+        segment.position = offset + HEADER_SIZE + body.length;
+        return new RecordRef(segment, offset);
+    }
+
+    private void syncIfNecessary() {
+        switch (config.getFsync()) {
+            case PER_OP -> active.force();
+            case BATCH -> {
+                if (++unflushed >= config.getBatchSize()) {
+                    active.force();
+                    unflushed = 0;
+                }
+            }
+            default -> {
+                // INTERVAL 由后台线程刷盘
+            }
+        }
+    }
+
+    private void roll() {
+        active.force();
+        try {
+            this.active = JournalSegment.open(this.segmentPath(active.index + 1), active.index + 1, config.getSegmentSize());
+        } catch (IOException e) {
+            throw new RaidenException(e, "roll timer journal error: {}", dir);
+        }
+        segments.addLast(active);
+        this.relocateOldest();
+        this.compact();
+    }
+
+    /**
+     * 把最老分段中仍存活的调度记录搬到当前分段, 搬空后即可删除
+     */
+    private void relocateOldest() {
+        final JournalSegment oldest = segments.peekFirst();
+        if (oldest == null || oldest == active || oldest.live == 0) {
+            return;
+        }
+        for (Map.Entry<Long, RecordRef> entry : liveIndex.entrySet()) {
+            final RecordRef ref = entry.getValue();
+            if (ref.segment != oldest) {
+                continue;
+            }
+            final byte[] body = this.read(oldest, ref.offset);
+            if (!active.hasRemaining(HEADER_SIZE + body.length)) {
+                // 空间不足, 下次切换分段时继续
+                return;
+            }
+            final RecordRef moved = this.write(body);
+            moved.segment.live++;
+            oldest.live--;
+            entry.setValue(moved);
+        }
+    }
+
+    /**
+     * 从最老的分段开始删除已经没有存活记录的分段
+     * <p>
+     * 只删除前缀: 取消/执行记录总是晚于对应的调度记录, 删除前缀不会让已结束的任务在回放时复活
+     */
+    private void compact() {
+        while (segments.size() > 1 && segments.peekFirst().live == 0) {
+            final JournalSegment segment = segments.pollFirst();
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                log.warn("delete timer journal segment error: {}", segment.path, e);
+            }
+        }
+    }
+
+    private List<JournalRecord> load() throws IOException {
+        final List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+        for (Path file : files) {
+            final String name = file.getFileName().toString();
+            final long index = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+            final JournalSegment segment = JournalSegment.open(file, index, config.getSegmentSize());
+            segments.addLast(segment);
+            this.replay(segment);
+        }
+        if (segments.isEmpty()) {
+            segments.addLast(JournalSegment.open(this.segmentPath(0), 0, config.getSegmentSize()));
+        }
+        this.active = segments.peekLast();
+
+        final List<JournalRecord> records = new ArrayList<>(liveIndex.size());
+        for (Map.Entry<Long, RecordRef> entry : liveIndex.entrySet()) {
+            final RecordRef ref = entry.getValue();
+            ref.segment.live++;
+            records.add(this.decode(this.read(ref.segment, ref.offset)));
+        }
+        records.sort(Comparator.comparingLong(JournalRecord::getId));
+        this.compact();
+        return records;
+    }
+
+    private void replay(JournalSegment segment) {
+        final ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            final int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            final byte[] body = this.read(segment, position);
+            final CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                log.warn("timer journal segment {} is truncated at {}", segment.path, position);
+                break;
+            }
+            final ByteBuffer record = ByteBuffer.wrap(body);
+            final byte op = record.get();
+            final long id = record.getLong();
+            sequence = Math.max(sequence, id);
+            if (op == OP_SCHEDULE) {
+                liveIndex.put(id, new RecordRef(segment, position));
+            } else {
+                liveIndex.remove(id);
+            }
+            position += HEADER_SIZE + length;
+        }
+        segment.position = position;
+    }
+
+    private byte[] read(JournalSegment segment, int offset) {
+        final byte[] body = new byte[segment.buffer.getInt(offset)];
+        segment.buffer.get(offset + HEADER_SIZE, body);
+        return body;
+    }
+
+    private byte[] encode(byte op, long id, long expireMs, String taskType, String cronExpression, String payload) {
+        if (op != OP_SCHEDULE) {
+            return ByteBuffer.allocate(9).put(op).putLong(id).array();
+        }
+        final byte[] type = this.bytes(taskType);
+        final byte[] cron = this.bytes(cronExpression);
+        final byte[] data = this.bytes(payload);
+        final ByteBuffer buffer = ByteBuffer.allocate(9 + 8 + 12 + this.length(type) + this.length(cron) + this.length(data));
+        buffer.put(op).putLong(id).putLong(expireMs);
+        this.putBytes(buffer, type);
+        this.putBytes(buffer, cron);
+        this.putBytes(buffer, data);
+        return buffer.array();
+    }
+
+    private JournalRecord decode(byte[] body) {
+        final ByteBuffer buffer = ByteBuffer.wrap(body);
+        final JournalRecord record = new JournalRecord();
+        buffer.get();
+        record.setId(buffer.getLong());
+        record.setExpireMs(buffer.getLong());
+        record.setTaskType(this.getString(buffer));
+        record.setCronExpression(this.getString(buffer));
+        record.setPayload(this.getString(buffer));
+        return record;
+    }
+
+    private byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private String getString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Path segmentPath(long index) {
+        return dir.resolve(String.format("%020d%s", index, SUFFIX));
+    }
+
+    /**
+     * 调度记录在分段中的位置
+     */
+    private record RecordRef(JournalSegment segment, int offset) {
+    }
+}
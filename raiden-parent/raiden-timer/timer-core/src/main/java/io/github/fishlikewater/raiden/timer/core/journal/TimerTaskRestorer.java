@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.journal;
+
+import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+
+/**
+ * {@code TimerTaskRestorer}
+ * 重启时根据日志记录重建任务
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@FunctionalInterface
+public interface TimerTaskRestorer {
+
+    /**
+     * 重建任务
+     *
+     * @param taskType 任务类型(类名)
+     * @param payload  任务数据
+     * @return {@link BaseTimerTask}
+     * @throws Exception 重建失败
+     */
+    BaseTimerTask restore(String taskType, String payload) throws Exception;
+
+    /**
+     * 通过无参构造器反射重建任务, 并回填 {@code payload}
+     *
+     * @return {@link TimerTaskRestorer}
+     */
+    static TimerTaskRestorer reflective() {
+        return (taskType, payload) -> {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = TimerTaskRestorer.class.getClassLoader();
+            }
+            final Class<?> clazz = Class.forName(taskType, true, classLoader);
+            final BaseTimerTask task = (BaseTimerTask) clazz.getDeclaredConstructor().newInstance();
+            task.setPayload(payload);
+            return task;
+        };
+    }
+}
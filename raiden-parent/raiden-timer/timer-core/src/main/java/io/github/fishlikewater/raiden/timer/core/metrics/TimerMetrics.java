@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.metrics;
+
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+
+/**
+ * {@code TimerMetrics}
+ * 定时器指标记录, 默认不记录
+ * <p>
+ * 时间轮各层占用、工作线程积压等瞬时值直接从 {@code TimerLauncher} 读取
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public interface TimerMetrics {
+
+    TimerMetrics NOOP = new TimerMetrics() {
+    };
+
+    /**
+     * 记录任务实际开始执行时间与 {@code expireMs} 的差值
+     *
+     * @param lagMs 延迟(毫秒)
+     */
+    default void recordFireLag(long lagMs) {
+    }
+
+    /**
+     * 按执行通道记录任务实际开始执行时间与 {@code expireMs} 的差值
+     *
+     * @param lane  执行通道
+     * @param lagMs 延迟(毫秒)
+     */
+    default void recordFireLag(TimerLaneEnum lane, long lagMs) {
+        this.recordFireLag(lagMs);
+    }
+
+    /**
+     * 记录任务执行耗时
+     *
+     * @param durationNanos 耗时(纳秒)
+     */
+    default void recordExecution(long durationNanos) {
+    }
+
+    /**
+     * 记录一次corn任务重新调度
+     */
+    default void recordCronReschedule() {
+    }
+
+    /**
+     * 记录一次错过触发时间
+     */
+    default void recordMisfire() {
+    }
+
+    /**
+     * 记录一次因上一次执行未结束而未提交的触发
+     */
+    default void recordSkipped() {
+    }
+
+    /**
+     * 记录一次因工作线程队列已满而丢弃的任务
+     */
+    default void recordRejected() {
+    }
+
+    /**
+     * 按执行通道记录一次因工作线程队列已满而丢弃的任务
+     *
+     * @param lane 执行通道
+     */
+    default void recordRejected(TimerLaneEnum lane) {
+        this.recordRejected();
+    }
+
+    /**
+     * 记录重复任务本次触发相对计划时间的偏移
+     *
+     * @param driftMs 偏移(毫秒)
+     */
+    default void recordDrift(long driftMs) {
+    }
+
+    /**
+     * 记录一次集群模式下未获取到租约而跳过的触发
+     */
+    default void recordLeaseLost() {
+    }
+
+    /**
+     * 记录一次boss线程上的任务日志写入失败
+     */
+    default void recordJournalError() {
+    }
+}
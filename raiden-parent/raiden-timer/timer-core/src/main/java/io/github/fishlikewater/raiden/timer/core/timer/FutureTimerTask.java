@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.timer;
+
+import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+import io.github.fishlikewater.raiden.timer.core.TimerTaskEntry;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+
+import java.util.concurrent.Callable;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+
+/**
+ * {@code FutureTimerTask}
+ * 到期时以 {@link Callable} 的结果完成 {@link CompletableFuture}
+ * <p>
+ * 超时控制对延迟敏感, 走 {@code CRITICAL} 通道, 用户任务默认走 {@code NORMAL} 通道; 自身作为future的完成回调, 提前完成时取消时间轮中的任务
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class FutureTimerTask<T> extends BaseTimerTask implements BiConsumer<Object, Throwable> {
+
+    private final CompletableFuture<T> future;
+
+    private final Callable<? extends T> callable;
+
+    private final TimerLaneEnum lane;
+
+    FutureTimerTask(CompletableFuture<T> future, Callable<? extends T> callable, long delayMs, TimerLaneEnum lane) {
+        this.future = future;
+        this.callable = callable;
+        this.lane = lane;
+        this.setDelayMs(delayMs);
+    }
+
+    @Override
+    public TimerLaneEnum lane() {
+        return lane;
+    }
+
+    @Override
+    public void accept(Object result, Throwable throwable) {
+        final TimerTaskEntry entry = this.getTimerTaskEntry();
+        if (Objects.nonNull(entry)) {
+            entry.cancel();
+        }
+    }
+
+    /**
+     * 队列已满时以异常结束future, 否则等待方(包括超时控制)永远不会完成
+     */
+    @Override
+    public void onRejected(RejectedExecutionException e) {
+        future.completeExceptionally(new RejectedExecutionException("timer " + lane + " worker queue is full", e));
+    }
+
+    @Override
+    public void run() {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            future.complete(callable.call());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.timer;
+
+import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+
+/**
+ * {@code Timeout}
+ * 已调度任务的句柄
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public interface Timeout {
+
+    /**
+     * 获取关联的任务
+     *
+     * @return {@link BaseTimerTask}
+     */
+    BaseTimerTask task();
+
+    /**
+     * 任务是否已到期执行(corn任务会一直调度, 直到被取消)
+     *
+     * @return {@link Boolean}
+     */
+    boolean isExpired();
+
+    /**
+     * 任务是否已被取消
+     *
+     * @return {@link Boolean}
+     */
+    boolean isCancelled();
+
+    /**
+     * 取消任务, 已到期或已取消的任务返回false
+     * <p>
+     * 取消本身是O(1)的状态变更, 任务节点由boss线程从所在的bucket中摘除
+     *
+     * @return 是否取消成功
+     */
+    boolean cancel();
+}
@@ -16,6 +16,15 @@
 package io.github.fishlikewater.raiden.timer.core.timer;
 
 import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * {@code Timer}
@@ -31,18 +40,91 @@ public interface Timer {
      * 添加一个新任务
      *
      * @param baseTimerTask {@link BaseTimerTask}
+     * @return 可取消的任务句柄 {@link Timeout}
+     */
+    Timeout add(BaseTimerTask baseTimerTask);
+
+    /**
+     * 批量添加任务, 同一个bucket的任务只写入一次
+     *
+     * @param baseTimerTasks {@link BaseTimerTask}
+     * @return 与入参顺序一致的任务句柄
+     */
+    List<Timeout> addAll(Collection<? extends BaseTimerTask> baseTimerTasks);
+
+    /**
+     * 延时执行 {@link Callable}, 以其结果完成返回的 {@link CompletableFuture}
+     * <p>
+     * 取消返回的future会同时取消时间轮中的任务
+     *
+     * @param callable 任务
+     * @param delay    延时
+     * @param unit     时间单位
+     * @return {@link CompletableFuture}
      */
-    void add(BaseTimerTask baseTimerTask);
+    default <T> CompletableFuture<T> schedule(Callable<T> callable, long delay, TimeUnit unit) {
+        return this.schedule(callable, delay, unit, TimerLaneEnum.NORMAL);
+    }
 
     /**
-     * 推动指针
+     * 延时在指定通道执行 {@link Callable}, 以其结果完成返回的 {@link CompletableFuture}
+     * <p>
+     * 取消返回的future会同时取消时间轮中的任务
      *
+     * @param callable 任务
+     * @param delay    延时
+     * @param unit     时间单位
+     * @param lane     执行通道
+     * @return {@link CompletableFuture}
+     */
+    default <T> CompletableFuture<T> schedule(Callable<T> callable, long delay, TimeUnit unit, TimerLaneEnum lane) {
+        Objects.requireNonNull(callable, "callable");
+        Objects.requireNonNull(lane, "lane");
+        final TimerFuture<T> future = new TimerFuture<>();
+        future.bind(this.add(new FutureTimerTask<>(future, callable, unit.toMillis(delay), lane)));
+        return future;
+    }
+
+    /**
+     * 超时未完成时以 {@link TimeoutException} 结束future, 与 {@link CompletableFuture#orTimeout} 相同但由时间轮计时
+     * <p>
+     * future提前完成时取消时间轮中的任务
+     *
+     * @param future  future
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @return 入参的future
+     */
+    default <T> CompletableFuture<T> orTimeout(CompletableFuture<T> future, long timeout, TimeUnit unit) {
+        return this.onTimeout(future, () -> {
+            throw new TimeoutException();
+        }, timeout, unit);
+    }
+
+    /**
+     * 超时未完成时以给定的值完成future, 与 {@link CompletableFuture#completeOnTimeout} 相同但由时间轮计时
+     * <p>
+     * future提前完成时取消时间轮中的任务
+     *
+     * @param future  future
+     * @param value   超时时使用的值
      * @param timeout 超时时间
+     * @param unit    时间单位
+     * @return 入参的future
+     */
+    default <T> CompletableFuture<T> completeOnTimeout(CompletableFuture<T> future, T value, long timeout, TimeUnit unit) {
+        return this.onTimeout(future, () -> value, timeout, unit);
+    }
+
+    /**
+     * 推动指针, 执行已到期的任务
+     *
+     * @param timeout 大于0时, 最多再等待该时间(毫秒)处理下一批到期任务
      */
     void advanceClock(long timeout);
 
     /**
-     * 等待执行的任务
+     * 等待执行的任务(不含已取消的任务)
      *
      * @return {@link Number}
      */
@@ -52,4 +134,13 @@ public interface Timer {
      * 关闭服务,剩下的无法被执行
      */
     void shutdown();
+
+    private <T> CompletableFuture<T> onTimeout(CompletableFuture<T> future, Callable<? extends T> fallback, long timeout, TimeUnit unit) {
+        if (!future.isDone()) {
+            final FutureTimerTask<T> task = new FutureTimerTask<>(future, fallback, unit.toMillis(timeout), TimerLaneEnum.CRITICAL);
+            this.add(task);
+            future.whenComplete(task);
+        }
+        return future;
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.timer;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code TimerFuture}
+ * {@link Timer#schedule} 返回的结果, 取消时同时取消时间轮中的任务
+ * <p>
+ * 派生的 {@code thenApply} 等结果为普通的 {@link CompletableFuture}, 取消它们不会影响定时任务
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+final class TimerFuture<T> extends CompletableFuture<T> {
+
+    private volatile Timeout timeout;
+
+    /**
+     * 关联任务句柄, 在句柄返回之前已被取消时立即取消任务
+     *
+     * @param timeout 任务句柄
+     */
+    void bind(Timeout timeout) {
+        this.timeout = timeout;
+        if (this.isCancelled()) {
+            timeout.cancel();
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+        final Timeout bound = this.timeout;
+        if (cancelled && bound != null) {
+            bound.cancel();
+        }
+        return cancelled;
+    }
+}
@@ -15,25 +15,45 @@
  */
 package io.github.fishlikewater.raiden.timer.core.timer;
 
-import io.github.fishlikewater.raiden.core.DateUtils;
 import io.github.fishlikewater.raiden.core.ObjectUtils;
-import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CronExpression;
+import io.github.fishlikewater.raiden.core.SystemPropertyUtil;
+import io.github.fishlikewater.raiden.core.exception.RaidenException;
 import io.github.fishlikewater.raiden.core.thread.NamedThreadFactory;
+import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CompiledCronExpression;
 import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
-import io.github.fishlikewater.raiden.timer.core.Bucket;
-import io.github.fishlikewater.raiden.timer.core.TimeWheel;
 import io.github.fishlikewater.raiden.timer.core.TimerTaskEntry;
+import io.github.fishlikewater.raiden.timer.core.clock.TimerClock;
+import io.github.fishlikewater.raiden.timer.core.cluster.TimerLease;
 import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.MisfirePolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+import io.github.fishlikewater.raiden.timer.core.journal.JournalRecord;
+import io.github.fishlikewater.raiden.timer.core.journal.TimerJournal;
+import io.github.fishlikewater.raiden.timer.core.journal.TimerTaskRestorer;
+import io.github.fishlikewater.raiden.timer.core.metrics.TimerMetrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.*;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@code TimerLauncher}
  * 定时器实现
+ * <p>
+ * 任务按哈希路由到 {@link TimerConfig#getShards()} 个相互独立的时间轮分片, 每个分片有自己的boss线程;
+ * 开启 {@link TimerConfig.Journal} 后持久化任务会写入 {@link TimerJournal}, 启动时回放恢复
  *
  * @author zhangxiang
  * @version 1.0.0
@@ -43,105 +63,605 @@ import java.util.concurrent.*;
 public class TimerLauncher implements Timer {
 
     /**
-     * 底层时间轮
+     * FIRE_ALL 策略下一次最多补偿的触发次数
      */
-    private TimeWheel timeWheel;
+    private static final int MAX_MISFIRE_REPLAY = 1_000;
+
+    /**
+     * 时间轮分片
+     */
+    private final TimerShard[] shards;
+    /**
+     * 过期任务执行线程, 下标为 {@link TimerLaneEnum#ordinal()}, 每个通道的线程数与队列均有上限
+     */
+    private final ExecutorService[] workerThreadPools;
+    /**
+     * 任务日志, 未开启持久化时为null
+     */
+    private final TimerJournal journal;
+    /**
+     * 各通道已提交但还未开始执行的任务数
+     */
+    private final LongAdder[] workerBacklogs;
+
     /**
-     * 一个Timer只有一个延时队列
+     * 错过触发的判定阈值
      */
-    private final DelayQueue<Bucket> delayQueue = new DelayQueue<>();
+    private final long misfireThresholdMs;
     /**
-     * 过期任务执行线程
+     * 时钟
      */
-    private final ExecutorService workerThreadPool;
+    private final TimerClock clock;
     /**
-     * 轮询delayQueue获取过期任务线程
+     * 集群租约, 未开启集群模式时为null
      */
-    private final ExecutorService bossThreadPool;
+    private final TimerLease lease;
+
+    private final long leaseMs;
+
+    private final String leaseKeyPrefix;
+    /**
+     * 是否复用已到期的entry
+     */
+    private final boolean recycleEntries;
+
+    private volatile TimerMetrics metrics = TimerMetrics.NOOP;
 
     @Getter
     private final TimerConfig timerConfig;
 
     public TimerLauncher(TimerConfig timerConfig) {
+        this(timerConfig, TimerTaskRestorer.reflective());
+    }
+
+    public TimerLauncher(TimerConfig timerConfig, TimerTaskRestorer restorer) {
         this.timerConfig = timerConfig;
-        this.timeWheel = new TimeWheel(timerConfig.getTickMs().toSeconds(), timerConfig.getWheelSize(), System.currentTimeMillis(), delayQueue);
-        this.workerThreadPool = Executors.newVirtualThreadPerTaskExecutor();
-        this.bossThreadPool = new ThreadPoolExecutor(
-                1,
-                1,
-                0,
-                TimeUnit.MINUTES,
-                new LinkedBlockingQueue<>(),
-                new NamedThreadFactory("timer-boss"));
-
-        // 推动一次时间轮运转
-        this.bossThreadPool.submit(() -> {
-            while (true) {
-                this.advanceClock(timerConfig.getClock().toMillis());
+        this.clock = timerConfig.getTimerClock();
+        this.misfireThresholdMs = Objects.isNull(timerConfig.getMisfireThreshold()) ? Long.MAX_VALUE : timerConfig.getMisfireThreshold().toMillis();
+        final TimerConfig.Cluster cluster = timerConfig.getCluster();
+        if (Objects.nonNull(cluster) && cluster.isEnabled()) {
+            if (Objects.isNull(timerConfig.getTimerLease())) {
+                throw new RaidenException("timer cluster mode requires a TimerLease");
             }
-        });
+            this.lease = timerConfig.getTimerLease();
+            this.leaseMs = cluster.getLeaseTime().toMillis();
+            this.leaseKeyPrefix = cluster.getKeyPrefix();
+        } else {
+            this.lease = null;
+            this.leaseMs = 0;
+            this.leaseKeyPrefix = null;
+        }
+        this.recycleEntries = timerConfig.isRecycleEntries();
+        final TimerLaneEnum[] lanes = TimerLaneEnum.values();
+        this.workerThreadPools = new ExecutorService[lanes.length];
+        this.workerBacklogs = new LongAdder[lanes.length];
+        for (TimerLaneEnum lane : lanes) {
+            this.workerThreadPools[lane.ordinal()] = this.createWorkerThreadPool(lane, this.workerOf(timerConfig, lane));
+            this.workerBacklogs[lane.ordinal()] = new LongAdder();
+        }
+        final int shardCount = timerConfig.getShards() > 0 ? timerConfig.getShards() : SystemPropertyUtil.getCores();
+        this.shards = new TimerShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            this.shards[i] = new TimerShard(timerConfig, i, this::handleExpired, this::handleCancelled);
+        }
+        final TimerConfig.Journal journalConfig = timerConfig.getJournal();
+        this.journal = Objects.nonNull(journalConfig) && journalConfig.isEnabled() ? new TimerJournal(journalConfig) : null;
+        if (Objects.nonNull(journal)) {
+            this.recover(restorer);
+        }
     }
 
     @Override
-    public void add(BaseTimerTask baseTimerTask) {
-        log.info("add task:{}", baseTimerTask.getDesc());
-        TimerTaskEntry entry;
-        if (ObjectUtils.isNotNullOrEmpty(baseTimerTask.getCornExpression())) {
-            CronExpression cronExpression = CronExpression.parse(baseTimerTask.getCornExpression());
-            long expireMs = DateUtils.transfer(cronExpression.next(LocalDateTime.now()));
-            entry = new TimerTaskEntry(baseTimerTask, expireMs);
-            entry.setCronExpression(cronExpression);
-        } else {
-            entry = new TimerTaskEntry(baseTimerTask, baseTimerTask.getDelayMs() + System.currentTimeMillis());
+    public Timeout add(BaseTimerTask baseTimerTask) {
+        log.debug("add task:{}", baseTimerTask.getDesc());
+        TimerTaskEntry entry = this.prepare(baseTimerTask, clock.millis());
+        this.shardOf(baseTimerTask).add(entry);
+        return entry;
+    }
+
+    @Override
+    public List<Timeout> addAll(Collection<? extends BaseTimerTask> baseTimerTasks) {
+        log.debug("add tasks:{}", baseTimerTasks.size());
+        final long now = clock.millis();
+        final List<Timeout> timeouts = new ArrayList<>(baseTimerTasks.size());
+        @SuppressWarnings("unchecked")
+        final List<TimerTaskEntry>[] groups = new List[shards.length];
+        for (BaseTimerTask baseTimerTask : baseTimerTasks) {
+            TimerTaskEntry entry = this.prepare(baseTimerTask, now);
+            int index = this.shardIndex(baseTimerTask);
+            if (Objects.isNull(groups[index])) {
+                groups[index] = new ArrayList<>();
+            }
+            groups[index].add(entry);
+            timeouts.add(entry);
         }
-        baseTimerTask.setTimerTaskEntry(entry);
-        addTimerTaskEntry(entry);
+        for (int i = 0; i < shards.length; i++) {
+            if (Objects.nonNull(groups[i])) {
+                shards[i].addAll(groups[i]);
+            }
+        }
+        return timeouts;
     }
 
     /**
-     * 推动指针运转获取过期任务
+     * 推动所有分片的指针运转获取过期任务
      *
      * @param timeout 时间间隔
      */
     @Override
-    public synchronized void advanceClock(long timeout) {
-        try {
-            Bucket bucket = delayQueue.poll(timeout, TimeUnit.MILLISECONDS);
-            if (bucket != null) {
-                // 推进时间
-                timeWheel.advanceLock(bucket.getExpiration());
-                // 执行过期任务(包含降级)
-                bucket.clear(this::addTimerTaskEntry);
-            }
-        } catch (InterruptedException e) {
-            log.error("advanceClock error");
+    public void advanceClock(long timeout) {
+        for (TimerShard shard : shards) {
+            shard.advanceClock(timeout);
         }
     }
 
     @Override
     public int size() {
-        return delayQueue.size();
+        long size = 0;
+        for (TimerShard shard : shards) {
+            size += shard.size();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
     }
 
     @Override
     public void shutdown() {
-        this.bossThreadPool.shutdown();
-        this.workerThreadPool.shutdown();
-        this.timeWheel = null;
-    }
-
-    private void addTimerTaskEntry(TimerTaskEntry entry) {
-        if (!timeWheel.addTask(entry)) {
-            // 任务已到期
-            BaseTimerTask baseTimerTask = entry.getBaseTimerTask();
-            log.info("handle task: {}", baseTimerTask.getDesc());
-            workerThreadPool.submit(baseTimerTask);
-            // corn 表达式任务添加下次时间
-            if (Objects.nonNull(entry.getCronExpression())) {
-                LocalDateTime next = entry.getCronExpression().next(LocalDateTime.now());
-                entry.setExpireMs(DateUtils.transfer(next));
-                this.addTimerTaskEntry(entry);
+        for (TimerShard shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService workerThreadPool : workerThreadPools) {
+            workerThreadPool.shutdown();
+        }
+        if (Objects.nonNull(journal)) {
+            this.journal.close();
+        }
+    }
+
+    /**
+     * 分片数量
+     *
+     * @return 分片数量
+     */
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 设置指标记录
+     *
+     * @param metrics {@link TimerMetrics}
+     */
+    public void setMetrics(TimerMetrics metrics) {
+        this.metrics = Objects.isNull(metrics) ? TimerMetrics.NOOP : metrics;
+    }
+
+    /**
+     * 所有分片时间轮各层的任务数
+     *
+     * @return 下标为层级(0为最底层)的任务数
+     */
+    public long[] levelOccupancy() {
+        long[] counts = new long[0];
+        for (TimerShard shard : shards) {
+            long[] occupancy = shard.levelOccupancy();
+            if (occupancy.length > counts.length) {
+                counts = Arrays.copyOf(counts, occupancy.length);
+            }
+            for (int i = 0; i < occupancy.length; i++) {
+                counts[i] += occupancy[i];
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 所有分片推进时间轮的次数, 空闲时不应增长
+     *
+     * @return 推进次数
+     */
+    public long ticks() {
+        long ticks = 0;
+        for (TimerShard shard : shards) {
+            ticks += shard.ticks();
+        }
+        return ticks;
+    }
+
+    /**
+     * 已到期提交但还未开始执行的任务数
+     *
+     * @return 积压数
+     */
+    public long workerBacklog() {
+        long backlog = 0;
+        for (LongAdder workerBacklog : workerBacklogs) {
+            backlog += workerBacklog.sum();
+        }
+        return backlog;
+    }
+
+    /**
+     * 指定通道已到期提交但还未开始执行的任务数
+     *
+     * @param lane 执行通道
+     * @return 积压数
+     */
+    public long workerBacklog(TimerLaneEnum lane) {
+        return workerBacklogs[lane.ordinal()].sum();
+    }
+
+    private void handleExpired(TimerTaskEntry entry) {
+        BaseTimerTask baseTimerTask = entry.getBaseTimerTask();
+        final long now = clock.millis();
+        final boolean misfired = now - entry.getExpireMs() > misfireThresholdMs;
+        // corn 表达式任务添加下次时间
+        if (Objects.nonNull(entry.getCronExpression())) {
+            log.debug("handle task: {}", baseTimerTask.getDesc());
+            this.fire(entry, now, misfired);
+            metrics.recordCronReschedule();
+            long next = entry.getCronExpression().next(now);
+            if (next < 0) {
+                log.warn("corn expression has no next fire time: {}", entry.getCronExpression());
+                entry.expire();
+                return;
+            }
+            entry.setExpireMs(next);
+            this.journalReschedule(entry);
+            this.shardOf(baseTimerTask).add(entry);
+        } else if (baseTimerTask.getFixedRateMs() > 0) {
+            log.debug("handle task: {}", baseTimerTask.getDesc());
+            this.recordDrift(entry, now);
+            this.fire(entry, now, misfired);
+            this.repeatAtFixedRate(entry, now);
+        } else if (baseTimerTask.getFixedDelayMs() > 0) {
+            log.debug("handle task: {}", baseTimerTask.getDesc());
+            this.recordDrift(entry, now);
+            if (!this.fire(entry, now, misfired)) {
+                // 没有执行在进行中, 不会有执行结束后的重新调度
+                this.repeatWithFixedDelay(entry);
+            }
+        } else if (entry.expire()) {
+            log.debug("handle task: {}", baseTimerTask.getDesc());
+            if (entry.getJournalId() > 0) {
+                this.journalFire(entry);
+            }
+            this.fire(entry, now, misfired);
+        }
+    }
+
+    /**
+     * 按错过触发策略提交执行
+     * <p>
+     * {@code FIRE_ALL} 错过的触发随本次一起交给同一个工作线程依次补偿, 不受并发策略影响
+     *
+     * @return 是否有执行已提交或仍在进行中
+     */
+    private boolean fire(TimerTaskEntry entry, long now, boolean misfired) {
+        final BaseTimerTask baseTimerTask = entry.getBaseTimerTask();
+        final MisfirePolicyEnum misfirePolicy = baseTimerTask.misfirePolicy();
+        if (misfired) {
+            metrics.recordMisfire();
+            if (misfirePolicy == MisfirePolicyEnum.SKIP) {
+                log.warn("skip misfired task: {}", baseTimerTask.getDesc());
+                return false;
+            }
+        }
+        final long[] replays = misfirePolicy == MisfirePolicyEnum.FIRE_ALL ? this.missedFires(entry, now) : null;
+        return this.dispatch(entry, entry.getExpireMs(), replays);
+    }
+
+    /**
+     * corn或固定频率任务在 (expireMs, now] 之间错过的触发时间, 最多 {@link #MAX_MISFIRE_REPLAY} 次
+     *
+     * @return 错过的触发时间, 没有时返回null
+     */
+    private long[] missedFires(TimerTaskEntry entry, long now) {
+        final long expireMs = entry.getExpireMs();
+        final long rate = entry.getBaseTimerTask().getFixedRateMs();
+        long[] missed = null;
+        int count = 0;
+        if (Objects.nonNull(entry.getCronExpression())) {
+            final PrimitiveIterator.OfLong iterator = entry.getCronExpression().iterator(expireMs, MAX_MISFIRE_REPLAY);
+            while (iterator.hasNext()) {
+                final long next = iterator.nextLong();
+                if (next > now) {
+                    break;
+                }
+                if (missed == null) {
+                    missed = new long[MAX_MISFIRE_REPLAY];
+                }
+                missed[count++] = next;
+            }
+        } else if (rate > 0 && expireMs + rate <= now) {
+            count = (int) Math.min(MAX_MISFIRE_REPLAY, (now - expireMs) / rate);
+            missed = new long[count];
+            for (int i = 0; i < count; i++) {
+                missed[i] = expireMs + (i + 1) * rate;
+            }
+        }
+        return missed == null || count == missed.length ? missed : Arrays.copyOf(missed, count);
+    }
+
+    /**
+     * 按并发策略提交执行
+     *
+     * @param replays 随本次执行依次补偿的错过触发时间, 可以为null
+     * @return 是否已提交, 或上一次执行仍在进行中
+     */
+    private boolean dispatch(TimerTaskEntry entry, long expireMs, long[] replays) {
+        final BaseTimerTask baseTimerTask = entry.getBaseTimerTask();
+        final ConcurrencyPolicyEnum policy = baseTimerTask.concurrencyPolicy();
+        if (!entry.tryRun(policy)) {
+            // 上一次还在执行, 本次被丢弃或已排队
+            metrics.recordSkipped();
+            return true;
+        }
+        final TimerLaneEnum lane = Objects.requireNonNullElse(baseTimerTask.lane(), TimerLaneEnum.NORMAL);
+        final LongAdder workerBacklog = workerBacklogs[lane.ordinal()];
+        workerBacklog.increment();
+        try {
+            workerThreadPools[lane.ordinal()].execute(() -> {
+                workerBacklog.decrement();
+                this.metrics.recordFireLag(lane, clock.millis() - expireMs);
+                boolean executed = false;
+                if (this.claim(entry, expireMs)) {
+                    this.run(baseTimerTask);
+                    executed = true;
+                }
+                if (Objects.nonNull(replays)) {
+                    for (long replay : replays) {
+                        if (this.claim(entry, replay)) {
+                            this.run(baseTimerTask);
+                            executed = true;
+                        }
+                    }
+                }
+                if (!executed) {
+                    // 本次触发由其它节点执行, 排队的那一次一并丢弃
+                    while (entry.finishRun(policy)) {
+                        metrics.recordSkipped();
+                    }
+                    return;
+                }
+                while (entry.finishRun(policy)) {
+                    this.run(baseTimerTask);
+                }
+                if (baseTimerTask.getFixedDelayMs() > 0) {
+                    this.repeatWithFixedDelay(entry);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            workerBacklog.decrement();
+            // 释放执行状态, 排队的那一次一起丢弃
+            while (entry.finishRun(policy)) {
+                metrics.recordRejected(lane);
+            }
+            metrics.recordRejected(lane);
+            log.warn("timer {} worker queue is full, drop task: {}", lane, baseTimerTask.getDesc());
+            try {
+                baseTimerTask.onRejected(e);
+            } catch (Throwable t) {
+                log.error("timer task reject callback error: {}", baseTimerTask.getDesc(), t);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 固定频率: 下次到期时间由本次计划时间推算, 复用同一个entry
+     * <p>
+     * 落后超过一个周期时跳过错过的周期, 保持原有相位; {@code FIRE_ALL} 错过的周期已随本次执行补偿,
+     * 这里只调度一次未来的周期, 不会因已到期而递归回到 {@link #handleExpired}
+     */
+    private void repeatAtFixedRate(TimerTaskEntry entry, long now) {
+        final BaseTimerTask baseTimerTask = entry.getBaseTimerTask();
+        final long rate = baseTimerTask.getFixedRateMs();
+        long next = entry.getExpireMs() + rate;
+        if (next <= now) {
+            next += ((now - next) / rate + 1) * rate;
+        }
+        entry.setExpireMs(next);
+        this.journalReschedule(entry);
+        this.shardOf(baseTimerTask).add(entry);
+    }
+
+    /**
+     * 固定延迟: 上一次执行结束后按当前时间重新调度, 复用同一个entry
+     */
+    private void repeatWithFixedDelay(TimerTaskEntry entry) {
+        final BaseTimerTask baseTimerTask = entry.getBaseTimerTask();
+        entry.setExpireMs(clock.millis() + baseTimerTask.getFixedDelayMs());
+        this.journalReschedule(entry);
+        this.shardOf(baseTimerTask).add(entry);
+    }
+
+    /**
+     * 集群模式下corn任务的每次触发通过租约选出一个节点执行, 在工作线程中调用
+     *
+     * @return 当前节点是否执行本次触发
+     */
+    private boolean claim(TimerTaskEntry entry, long expireMs) {
+        if (Objects.isNull(lease) || Objects.isNull(entry.getCronExpression())) {
+            return true;
+        }
+        final BaseTimerTask baseTimerTask = entry.getBaseTimerTask();
+        final String clusterKey = baseTimerTask.clusterKey();
+        if (Objects.isNull(clusterKey)) {
+            return true;
+        }
+        try {
+            if (lease.tryAcquire(leaseKeyPrefix + clusterKey + ":" + expireMs, leaseMs)) {
+                return true;
             }
+        } catch (Exception e) {
+            // 无法确认是否由其它节点执行时跳过, 避免重复执行
+            log.warn("acquire timer lease error, skip task: {}", baseTimerTask.getDesc(), e);
+        }
+        metrics.recordLeaseLost();
+        return false;
+    }
+
+    private void recordDrift(TimerTaskEntry entry, long now) {
+        final long driftMs = now - entry.getExpireMs();
+        entry.setRepeats(entry.getRepeats() + 1);
+        entry.setDriftMs(entry.getDriftMs() + driftMs);
+        metrics.recordDrift(driftMs);
+    }
+
+    private void run(BaseTimerTask baseTimerTask) {
+        final TimerMetrics timerMetrics = this.metrics;
+        final long start = System.nanoTime();
+        try {
+            baseTimerTask.run();
+        } catch (Throwable e) {
+            log.error("execute task error: {}", baseTimerTask.getDesc(), e);
+        } finally {
+            timerMetrics.recordExecution(System.nanoTime() - start);
+        }
+    }
+
+    private TimerConfig.Worker workerOf(TimerConfig timerConfig, TimerLaneEnum lane) {
+        final TimerConfig.Worker worker = switch (lane) {
+            case CRITICAL -> timerConfig.getCriticalWorker();
+            case BULK -> timerConfig.getBulkWorker();
+            default -> timerConfig.getWorker();
+        };
+        return Objects.isNull(worker) ? timerConfig.getWorker() : worker;
+    }
+
+    private ExecutorService createWorkerThreadPool(TimerLaneEnum lane, TimerConfig.Worker worker) {
+        final String prefix = lane == TimerLaneEnum.NORMAL ? "timer-worker" : "timer-" + lane.name().toLowerCase();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                worker.getThreads(),
+                worker.getThreads(),
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(worker.getQueueCapacity()),
+                worker.isVirtual() ? Thread.ofVirtual().name(prefix + "-", 0).factory() : new NamedThreadFactory(prefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void handleCancelled(TimerTaskEntry entry) {
+        if (entry.getJournalId() <= 0) {
+            return;
+        }
+        try {
+            journal.cancel(entry.getJournalId());
+        } catch (Exception e) {
+            // 运行在boss线程, 日志写入失败不能中断时间轮推进, 重启后该任务会被重新恢复
+            metrics.recordJournalError();
+            log.error("timer journal cancel error, id: {}", entry.getJournalId(), e);
+        }
+    }
+
+    /**
+     * 一次性任务执行前记录已触发, 失败时任务照常执行, 重启后可能再次执行
+     */
+    private void journalFire(TimerTaskEntry entry) {
+        try {
+            journal.fire(entry.getJournalId());
+        } catch (Exception e) {
+            metrics.recordJournalError();
+            log.error("timer journal fire error, id: {}", entry.getJournalId(), e);
+        }
+    }
+
+    /**
+     * 重复任务记录下次到期时间, 重启恢复时按该时间判断是否错过触发; 失败时重启后按上一次记录的时间恢复
+     */
+    private void journalReschedule(TimerTaskEntry entry) {
+        if (entry.getJournalId() <= 0) {
+            return;
+        }
+        try {
+            journal.reschedule(entry.getJournalId(), entry.getExpireMs());
+        } catch (Exception e) {
+            metrics.recordJournalError();
+            log.error("timer journal reschedule error, id: {}", entry.getJournalId(), e);
+        }
+    }
+
+    /**
+     * 回放任务日志, 已过期的任务会立即按错过触发策略处理
+     *
+     * @param restorer 任务重建
+     */
+    private void recover(TimerTaskRestorer restorer) {
+        for (JournalRecord record : journal.recover()) {
+            BaseTimerTask baseTimerTask;
+            try {
+                baseTimerTask = restorer.restore(record.getTaskType(), record.getPayload());
+            } catch (Exception e) {
+                log.error("restore task error: {}", record.getTaskType(), e);
+                journal.cancel(record.getId());
+                continue;
+            }
+            TimerTaskEntry entry = this.createEntry(baseTimerTask, record.getCronExpression(), record.getExpireMs());
+            entry.setJournalId(record.getId());
+            this.shardOf(baseTimerTask).add(entry);
+        }
+    }
+
+    private TimerTaskEntry prepare(BaseTimerTask baseTimerTask, long now) {
+        TimerTaskEntry entry = this.recycle(baseTimerTask, now);
+        if (Objects.isNull(entry)) {
+            // corn任务的到期时间由表达式计算
+            final long expireMs = ObjectUtils.isNotNullOrEmpty(baseTimerTask.getCornExpression()) ? 0 : baseTimerTask.getDelayMs() + now;
+            entry = this.createEntry(baseTimerTask, baseTimerTask.getCornExpression(), expireMs);
+        }
+        if (Objects.nonNull(journal) && baseTimerTask.durable()) {
+            long journalId = journal.schedule(entry.getExpireMs(), baseTimerTask.getClass().getName(), baseTimerTask.getCornExpression(), baseTimerTask.getPayload());
+            entry.setJournalId(journalId);
+        }
+        return entry;
+    }
+
+    /**
+     * 复用任务上一次已到期的entry, corn任务不会到期, 总是新建
+     */
+    private TimerTaskEntry recycle(BaseTimerTask baseTimerTask, long now) {
+        if (!recycleEntries || ObjectUtils.isNotNullOrEmpty(baseTimerTask.getCornExpression())) {
+            return null;
+        }
+        final TimerTaskEntry entry = baseTimerTask.getTimerTaskEntry();
+        if (Objects.isNull(entry) || !entry.recycle()) {
+            return null;
+        }
+        entry.setExpireMs(baseTimerTask.getDelayMs() + now);
+        entry.setJournalId(0);
+        entry.setRepeats(0);
+        entry.setDriftMs(0);
+        return entry;
+    }
+
+    /**
+     * @param expireMs 到期时间, corn任务小于等于0时从当前时间计算下次触发, 恢复时传入日志中记录的到期时间
+     */
+    private TimerTaskEntry createEntry(BaseTimerTask baseTimerTask, String cornExpression, long expireMs) {
+        TimerTaskEntry entry;
+        if (ObjectUtils.isNotNullOrEmpty(cornExpression)) {
+            CompiledCronExpression cronExpression = CompiledCronExpression.compile(cornExpression);
+            entry = new TimerTaskEntry(baseTimerTask, expireMs > 0 ? expireMs : cronExpression.next(clock.millis()));
+            entry.setCronExpression(cronExpression);
+        } else {
+            entry = new TimerTaskEntry(baseTimerTask, expireMs);
+        }
+        baseTimerTask.setTimerTaskEntry(entry);
+        return entry;
+    }
+
+    private TimerShard shardOf(BaseTimerTask baseTimerTask) {
+        return shards[this.shardIndex(baseTimerTask)];
+    }
+
+    private int shardIndex(BaseTimerTask baseTimerTask) {
+        if (shards.length == 1) {
+            return 0;
         }
+        // BaseTimerTask 的hashCode依赖可变字段, 这里使用身份哈希保证同一任务始终落在同一分片
+        final int hash = System.identityHashCode(baseTimerTask);
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.timer;
+
+import io.github.fishlikewater.raiden.core.exception.RaidenException;
+import io.github.fishlikewater.raiden.core.thread.NamedThreadFactory;
+import io.github.fishlikewater.raiden.timer.core.TickerEngine;
+import io.github.fishlikewater.raiden.timer.core.TimeWheel;
+import io.github.fishlikewater.raiden.timer.core.TimerTaskEntry;
+import io.github.fishlikewater.raiden.timer.core.clock.TimerClock;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@code TimerShard}
+ * 时间轮分片, 每个分片拥有独立的时间轮、推进引擎和boss线程
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Slf4j
+final class TimerShard {
+
+    /**
+     * 底层时间轮
+     */
+    private final TimeWheel timeWheel;
+    /**
+     * 推进引擎, 空闲时boss线程睡眠到下一个非空tick
+     */
+    private final TickerEngine engine;
+    /**
+     * 时钟
+     */
+    private final TimerClock clock;
+    /**
+     * 推进时间轮的线程
+     */
+    private final ExecutorService bossThreadPool;
+    /**
+     * 到期任务处理
+     */
+    private final Consumer<TimerTaskEntry> expiredHandler;
+    /**
+     * 已取消任务摘除后的处理
+     */
+    private final Consumer<TimerTaskEntry> cancelledHandler;
+
+    private volatile boolean running = true;
+
+    TimerShard(TimerConfig timerConfig, int index, Consumer<TimerTaskEntry> expiredHandler, Consumer<TimerTaskEntry> cancelledHandler) {
+        final long tickMs = timerConfig.getTickMs().toMillis();
+        if (tickMs <= 0) {
+            throw new RaidenException("timer tickMs must be at least 1ms: {}", timerConfig.getTickMs());
+        }
+        this.clock = timerConfig.getTimerClock();
+        this.engine = new TickerEngine(tickMs, timerConfig.getWheelSize(), clock);
+        this.timeWheel = engine.getTimeWheel();
+        this.expiredHandler = expiredHandler;
+        this.cancelledHandler = cancelledHandler;
+        this.bossThreadPool = new ThreadPoolExecutor(
+                1,
+                1,
+                0,
+                TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("timer-boss-" + index));
+
+        // 推动时间轮运转, 没有到期的bucket时一直睡眠, 由写入或取消唤醒
+        this.bossThreadPool.submit(() -> {
+            engine.bind(Thread.currentThread());
+            while (running) {
+                try {
+                    this.advanceClock(0);
+                } catch (Throwable e) {
+                    // 单个任务处理异常不能结束boss线程, 否则该分片内的任务都不再触发
+                    log.error("timer shard {} advance error", index, e);
+                }
+                engine.await(Long.MAX_VALUE);
+            }
+        });
+    }
+
+    /**
+     * 添加任务, 已到期的任务交给 {@link #expiredHandler}
+     *
+     * @param entry 定时任务
+     */
+    void add(TimerTaskEntry entry) {
+        if (entry.isCancelled()) {
+            // 已取消的任务直接丢弃
+            return;
+        }
+        if (!timeWheel.addTask(entry)) {
+            // 任务已到期
+            expiredHandler.accept(entry);
+        }
+    }
+
+    /**
+     * 批量添加任务, 已到期的任务交给 {@link #expiredHandler}
+     *
+     * @param entries 定时任务
+     */
+    void addAll(List<TimerTaskEntry> entries) {
+        // 已取消的任务直接丢弃
+        entries.removeIf(TimerTaskEntry::isCancelled);
+        if (!entries.isEmpty()) {
+            timeWheel.addAll(entries, expiredHandler);
+        }
+    }
+
+    /**
+     * 推动指针运转获取过期任务
+     *
+     * @param timeout 大于0时, 处理完当前到期任务后最多再等待的时间
+     */
+    synchronized void advanceClock(long timeout) {
+        this.advance();
+        if (timeout > 0) {
+            engine.await(timeout);
+            this.advance();
+        }
+    }
+
+    long ticks() {
+        return engine.ticks();
+    }
+
+    long[] levelOccupancy() {
+        return timeWheel.levelOccupancy();
+    }
+
+    long size() {
+        return timeWheel.getTaskCounter().sum();
+    }
+
+    void shutdown() {
+        this.running = false;
+        this.bossThreadPool.shutdownNow();
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private void advance() {
+        // 摘除已取消的任务
+        timeWheel.purgeCancelled(cancelledHandler);
+        // 推进时间并执行所有到期的bucket(包含降级)
+        engine.advance(clock.millis(), this::add);
+    }
+}
@@ -24,6 +24,12 @@ module raiden.timer.core {
     requires raiden.core;
 
     exports io.github.fishlikewater.raiden.timer.core;
+    exports io.github.fishlikewater.raiden.timer.core.annotation;
+    exports io.github.fishlikewater.raiden.timer.core.clock;
+    exports io.github.fishlikewater.raiden.timer.core.cluster;
     exports io.github.fishlikewater.raiden.timer.core.config;
+    exports io.github.fishlikewater.raiden.timer.core.enums;
+    exports io.github.fishlikewater.raiden.timer.core.journal;
+    exports io.github.fishlikewater.raiden.timer.core.metrics;
     exports io.github.fishlikewater.raiden.timer.core.timer;
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.SystemPropertyUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code BucketContentionTest}
+ * 多线程并发写入同一个bucket的吞吐量
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class BucketContentionTest {
+
+    private static final int ADDS_PER_THREAD = 100_000;
+
+    @Test
+    public void testAddScaling() throws InterruptedException {
+        final int maxThreads = Math.max(2, Math.min(16, SystemPropertyUtil.getCores()));
+        for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+            final Bucket bucket = new Bucket();
+            final long elapsed = this.concurrentAdd(bucket, threads);
+            final long total = (long) threads * ADDS_PER_THREAD;
+            System.out.println(StringUtils.format("threads: {} -> {} adds/s", threads, total * 1_000_000_000L / elapsed));
+
+            final AtomicLong drained = new AtomicLong();
+            bucket.clear(entry -> drained.incrementAndGet());
+            Assert.assertEquals(total, drained.get());
+        }
+    }
+
+    private long concurrentAdd(Bucket bucket, int threads) throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < ADDS_PER_THREAD; j++) {
+                        bucket.addTask(new TimerTaskEntry(null, j));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        final long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        final long elapsed = Math.max(1, System.nanoTime() - begin);
+        executor.shutdown();
+        return elapsed;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BulkScheduleBenchmarkTest}
+ * 逐个添加与批量添加的耗时对比
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class BulkScheduleBenchmarkTest {
+
+    private static final int TASKS = 200_000;
+
+    private static final int ROUNDS = 8;
+
+    @Test
+    public void testCompareAddAll() {
+        for (int round = 0; round < ROUNDS; round++) {
+            final long single = this.run(false);
+            final long bulk = this.run(true);
+            System.out.println(StringUtils.format("round {}: add {} ms, addAll {} ms ({} tasks)",
+                    round, TimeUnit.NANOSECONDS.toMillis(single), TimeUnit.NANOSECONDS.toMillis(bulk), TASKS));
+        }
+    }
+
+    private long run(boolean bulk) {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+
+        // 模拟批量重试: 大量任务落在少数几个延迟上
+        final List<BaseTimerTask> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            final BaseTimerTask task = new BaseTimerTask() {
+                @Override
+                public void run() {
+                }
+            };
+            task.setDelayMs(TimeUnit.MINUTES.toMillis(10) + (i % 16) * 1_000L);
+            tasks.add(task);
+        }
+
+        System.gc();
+        final long begin = System.nanoTime();
+        if (bulk) {
+            timerLauncher.addAll(tasks);
+        } else {
+            for (BaseTimerTask task : tasks) {
+                timerLauncher.add(task);
+            }
+        }
+        final long elapsed = System.nanoTime() - begin;
+        Assert.assertEquals(TASKS, timerLauncher.size());
+        timerLauncher.shutdown();
+        return elapsed;
+    }
+}
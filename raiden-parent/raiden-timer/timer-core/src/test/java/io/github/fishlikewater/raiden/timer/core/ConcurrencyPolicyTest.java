@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.MisfirePolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.metrics.TimerMetrics;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code ConcurrencyPolicyTest}
+ * 重叠执行控制、错过触发处理与有界工作线程
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class ConcurrencyPolicyTest {
+
+    TimerLauncher timerLauncher;
+
+    final AtomicLong misfire = new AtomicLong();
+
+    final AtomicLong skipped = new AtomicLong();
+
+    final AtomicLong rejected = new AtomicLong();
+
+    @Before
+    public void init() {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.getWorker().setThreads(4);
+        timerConfig.getWorker().setQueueCapacity(2);
+        timerLauncher = new TimerLauncher(timerConfig);
+        timerLauncher.setMetrics(new TimerMetrics() {
+            @Override
+            public void recordMisfire() {
+                misfire.incrementAndGet();
+            }
+
+            @Override
+            public void recordSkipped() {
+                skipped.incrementAndGet();
+            }
+
+            @Override
+            public void recordRejected() {
+                rejected.incrementAndGet();
+            }
+        });
+    }
+
+    @After
+    public void destroy() {
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testConcurrencyPolicy() throws InterruptedException {
+        final SlowCornTask skip = new SlowCornTask(ConcurrencyPolicyEnum.SKIP_IF_RUNNING);
+        final SlowCornTask queue = new SlowCornTask(ConcurrencyPolicyEnum.QUEUE_ONE);
+        final SlowCornTask parallel = new SlowCornTask(ConcurrencyPolicyEnum.ALLOW_PARALLEL);
+        timerLauncher.add(skip);
+        timerLauncher.add(queue);
+        timerLauncher.add(parallel);
+        Thread.sleep(6_500);
+
+        System.out.println(StringUtils.format("skip: {} runs, queue: {} runs, parallel: {} runs (max concurrent {})",
+                skip.runs.get(), queue.runs.get(), parallel.runs.get(), parallel.maxConcurrent.get()));
+        Assert.assertEquals(1, skip.maxConcurrent.get());
+        Assert.assertEquals(1, queue.maxConcurrent.get());
+        Assert.assertTrue(parallel.maxConcurrent.get() > 1);
+        Assert.assertTrue(queue.runs.get() > skip.runs.get());
+        Assert.assertTrue(skipped.get() > 0);
+    }
+
+    @Test
+    public void testMisfire() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final BaseTimerTask skip = new BaseTimerTask() {
+            @Override
+            public MisfirePolicyEnum misfirePolicy() {
+                return MisfirePolicyEnum.SKIP;
+            }
+
+            @Override
+            public void run() {
+                runs.addAndGet(100);
+            }
+        };
+        final BaseTimerTask fireOnce = new BaseTimerTask() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        };
+        // 到期时间早已过去, 模拟GC停顿后才处理
+        skip.setDelayMs(-5_000);
+        fireOnce.setDelayMs(-5_000);
+        timerLauncher.add(skip);
+        timerLauncher.add(fireOnce);
+        Thread.sleep(500);
+
+        Assert.assertEquals(1, runs.get());
+        Assert.assertEquals(2, misfire.get());
+    }
+
+    @Test
+    public void testBoundedWorker() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            final BaseTimerTask task = new BaseTimerTask() {
+                @Override
+                public void run() {
+                    runs.incrementAndGet();
+                    sleep(300);
+                }
+            };
+            timerLauncher.add(task);
+        }
+        Thread.sleep(1_000);
+
+        // 4个线程 + 2个排队, 其余丢弃
+        Assert.assertEquals(6, runs.get());
+        Assert.assertEquals(14, rejected.get());
+        Assert.assertEquals(0, timerLauncher.workerBacklog());
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class SlowCornTask extends BaseTimerTask {
+
+        final ConcurrencyPolicyEnum policy;
+
+        final AtomicInteger runs = new AtomicInteger();
+
+        final AtomicInteger running = new AtomicInteger();
+
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        SlowCornTask(ConcurrencyPolicyEnum policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        public String cornExpression() {
+            return "0/1 * * * * ?";
+        }
+
+        @Override
+        public ConcurrencyPolicyEnum concurrencyPolicy() {
+            return policy;
+        }
+
+        @Override
+        public void run() {
+            runs.incrementAndGet();
+            maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(2_500);
+            running.decrementAndGet();
+        }
+    }
+}
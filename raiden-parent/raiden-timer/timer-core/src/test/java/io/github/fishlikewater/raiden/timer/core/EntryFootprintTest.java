@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.timer.Timeout;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EntryFootprintTest}
+ * 等待中的任务每个占用的堆内存
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class EntryFootprintTest {
+
+    private static final int PENDING = 1_000_000;
+
+    @Test
+    public void testFootprint() throws InterruptedException {
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config());
+        final List<Object> holder = new ArrayList<>(PENDING);
+
+        long before = this.usedHeap();
+        for (int i = 0; i < PENDING; i++) {
+            final BaseTimerTask task = new IdleTask();
+            task.setDelayMs(TimeUnit.HOURS.toMillis(1) + i);
+            timerLauncher.add(task);
+        }
+        final long task = this.usedHeap() - before;
+        Assert.assertEquals(PENDING, timerLauncher.size());
+
+        before = this.usedHeap();
+        for (int i = 0; i < PENDING; i++) {
+            // 只保留future, 与业务代码持有的方式一致
+            holder.add(timerLauncher.orTimeout(new CompletableFuture<>(), TimeUnit.HOURS.toMillis(1) + i, TimeUnit.MILLISECONDS));
+        }
+        final long timeout = this.usedHeap() - before;
+        Assert.assertEquals(PENDING * 2, timerLauncher.size());
+
+        System.out.println(StringUtils.format("pending BaseTimerTask: {} bytes/timeout, pending orTimeout: {} bytes/timeout",
+                task / PENDING, timeout / PENDING));
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testRecycle() throws InterruptedException {
+        final TimerConfig timerConfig = this.config();
+        timerConfig.setRecycleEntries(true);
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+        final IdleTask task = new IdleTask();
+        final Timeout first = timerLauncher.add(task);
+        this.awaitExpired(first);
+
+        // 已到期的entry被同一个任务复用
+        task.setDelayMs(50);
+        final Timeout second = timerLauncher.add(task);
+        Assert.assertSame(first, second);
+        Assert.assertFalse(second.isExpired());
+        Assert.assertEquals(1, timerLauncher.size());
+        this.awaitExpired(second);
+        Assert.assertEquals(0, timerLauncher.size());
+
+        // 未到期时不复用
+        task.setDelayMs(TimeUnit.HOURS.toMillis(1));
+        final Timeout third = timerLauncher.add(task);
+        Assert.assertSame(first, third);
+        final Timeout fourth = timerLauncher.add(task);
+        Assert.assertNotSame(third, fourth);
+        Assert.assertEquals(2, timerLauncher.size());
+        Assert.assertTrue(third.cancel());
+        Assert.assertTrue(fourth.cancel());
+        Assert.assertEquals(0, timerLauncher.size());
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testIdentity() throws InterruptedException {
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config());
+        final IdleTask first = new IdleTask();
+        final IdleTask second = new IdleTask();
+        first.setDelayMs(TimeUnit.HOURS.toMillis(1));
+        second.setDelayMs(TimeUnit.HOURS.toMillis(1));
+        first.setDesc(new String("idle"));
+        second.setDesc(new String("idle"));
+        final Timeout firstTimeout = timerLauncher.add(first);
+        final Timeout secondTimeout = timerLauncher.add(second);
+
+        // entry按对象标识比较, 任务的equals/hashCode不经过entry, 不会互相递归
+        Assert.assertFalse(firstTimeout.equals(secondTimeout));
+        Assert.assertTrue(first.equals(first));
+        Assert.assertEquals(first.hashCode(), first.hashCode());
+        Assert.assertNotNull(first.toString());
+        Assert.assertNotNull(firstTimeout.toString());
+        Assert.assertEquals(first.getDesc(), second.getDesc());
+        timerLauncher.shutdown();
+
+        // 只有corn表达式被intern, 描述常带有业务id, 原样保留
+        final IdleTask cron = new IdleTask();
+        final IdleTask other = new IdleTask();
+        cron.setCornExpression(new String("0/1 * * * * ?"));
+        other.setCornExpression(new String("0/1 * * * * ?"));
+        Assert.assertSame(cron.getCornExpression(), other.getCornExpression());
+    }
+
+    private void awaitExpired(Timeout timeout) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (!timeout.isExpired() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertTrue(timeout.isExpired());
+    }
+
+    private long usedHeap() throws InterruptedException {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private TimerConfig config() {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        return timerConfig;
+    }
+
+    static class IdleTask extends BaseTimerTask {
+
+        @Override
+        public void run() {
+        }
+    }
+}
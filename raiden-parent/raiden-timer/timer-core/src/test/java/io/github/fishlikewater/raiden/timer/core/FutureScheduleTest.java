@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@code FutureScheduleTest}
+ * {@code CompletableFuture} 形式的调度与超时
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class FutureScheduleTest {
+
+    private static final int TIMEOUTS = 500_000;
+
+    private static final int PENDING = 200_000;
+
+    TimerLauncher timerLauncher;
+
+    @Before
+    public void init() {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerLauncher = new TimerLauncher(timerConfig);
+    }
+
+    @After
+    public void destroy() {
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        final CompletableFuture<String> future = timerLauncher.schedule(() -> "done", 100, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("DONE", future.thenApply(String::toUpperCase).get(2, TimeUnit.SECONDS));
+
+        final CompletableFuture<String> failed = timerLauncher.schedule(() -> {
+            throw new IllegalStateException("failed");
+        }, 100, TimeUnit.MILLISECONDS);
+        try {
+            failed.get(2, TimeUnit.SECONDS);
+            Assert.fail("expected failed future");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testLane() throws Exception {
+        // 用户任务默认走 NORMAL 通道, 不占用超时控制的 CRITICAL 通道
+        final String normal = timerLauncher.schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS).get(2, TimeUnit.SECONDS);
+        Assert.assertTrue(normal, normal.startsWith("timer-worker"));
+        final String bulk = timerLauncher.schedule(() -> Thread.currentThread().getName(), 10, TimeUnit.MILLISECONDS, TimerLaneEnum.BULK).get(2, TimeUnit.SECONDS);
+        Assert.assertTrue(bulk, bulk.startsWith("timer-bulk"));
+
+        final CompletableFuture<String> timeout = timerLauncher.orTimeout(new CompletableFuture<>(), 10, TimeUnit.MILLISECONDS);
+        final String critical = timeout.handle((value, e) -> Thread.currentThread().getName()).get(2, TimeUnit.SECONDS);
+        Assert.assertTrue(critical, critical.startsWith("timer-critical"));
+    }
+
+    @Test
+    public void testRejected() throws Exception {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.getCriticalWorker().setThreads(1);
+        timerConfig.getCriticalWorker().setQueueCapacity(1);
+        final TimerLauncher launcher = new TimerLauncher(timerConfig);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 占满 CRITICAL 通道: 1个执行中, 1个排队, 其余被拒绝
+            final List<CompletableFuture<Boolean>> blocked = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                blocked.add(launcher.schedule(() -> release.await(10, TimeUnit.SECONDS), 10, TimeUnit.MILLISECONDS, TimerLaneEnum.CRITICAL));
+            }
+            Thread.sleep(200);
+            final List<CompletableFuture<String>> timeouts = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                timeouts.add(launcher.orTimeout(new CompletableFuture<>(), 10, TimeUnit.MILLISECONDS));
+            }
+            // 被拒绝的超时控制同样以异常结束, 不会一直挂起
+            for (CompletableFuture<String> timeout : timeouts) {
+                try {
+                    timeout.get(2, TimeUnit.SECONDS);
+                    Assert.fail("expected rejected timeout");
+                } catch (ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+                }
+            }
+            release.countDown();
+            int rejected = 0;
+            for (CompletableFuture<Boolean> future : blocked) {
+                try {
+                    Assert.assertTrue(future.get(2, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+                    rejected++;
+                }
+            }
+            Assert.assertEquals(8, rejected);
+        } finally {
+            release.countDown();
+            launcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final CompletableFuture<String> future = timerLauncher.schedule(() -> "done", 10, TimeUnit.SECONDS);
+        Assert.assertEquals(1, timerLauncher.size());
+        Assert.assertTrue(future.cancel(false));
+        // 取消future同时取消时间轮中的任务
+        Assert.assertEquals(0, timerLauncher.size());
+        try {
+            future.join();
+            Assert.fail("expected cancelled future");
+        } catch (CancellationException e) {
+            Assert.assertTrue(future.isCancelled());
+        }
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        final CompletableFuture<String> timeout = timerLauncher.orTimeout(new CompletableFuture<>(), 100, TimeUnit.MILLISECONDS);
+        try {
+            timeout.get(2, TimeUnit.SECONDS);
+            Assert.fail("expected timeout");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+
+        final CompletableFuture<String> fallback = timerLauncher.completeOnTimeout(new CompletableFuture<>(), "fallback", 100, TimeUnit.MILLISECONDS);
+        Assert.assertEquals("fallback", fallback.get(2, TimeUnit.SECONDS));
+
+        // 提前完成时取消时间轮中的任务
+        final CompletableFuture<String> completed = timerLauncher.orTimeout(new CompletableFuture<>(), 10, TimeUnit.SECONDS);
+        Assert.assertEquals(1, timerLauncher.size());
+        completed.complete("value");
+        Assert.assertEquals(0, timerLauncher.size());
+        Assert.assertEquals("value", completed.join());
+    }
+
+    @Test
+    public void testTimeoutCost() throws InterruptedException {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        for (int pending : new int[]{0, PENDING}) {
+            // 保持一定数量未完成的超时, 堆的插入/删除成本随之增长
+            final List<CompletableFuture<Integer>> outstanding = new ArrayList<>(pending);
+            for (int i = 0; i < pending; i++) {
+                outstanding.add(timerLauncher.orTimeout(new CompletableFuture<>(), 60, TimeUnit.SECONDS));
+                final CompletableFuture<Integer> future = new CompletableFuture<>();
+                final ScheduledFuture<?> timeout = executor.schedule(() -> future.completeExceptionally(new TimeoutException()), 60, TimeUnit.SECONDS);
+                future.whenComplete((result, e) -> timeout.cancel(false));
+                outstanding.add(future);
+            }
+            for (int round = 0; round < 3; round++) {
+                // 远程调用的典型场景: 设置超时, 绝大多数在超时前完成
+                long begin = System.nanoTime();
+                for (int i = 0; i < TIMEOUTS; i++) {
+                    final CompletableFuture<Integer> future = new CompletableFuture<>();
+                    timerLauncher.orTimeout(future, 30, TimeUnit.SECONDS);
+                    future.complete(i);
+                }
+                final long wheel = System.nanoTime() - begin;
+
+                begin = System.nanoTime();
+                for (int i = 0; i < TIMEOUTS; i++) {
+                    final CompletableFuture<Integer> future = new CompletableFuture<>();
+                    final ScheduledFuture<?> timeout = executor.schedule(() -> future.completeExceptionally(new TimeoutException()), 30, TimeUnit.SECONDS);
+                    future.whenComplete((result, e) -> timeout.cancel(false));
+                    future.complete(i);
+                }
+                final long pool = System.nanoTime() - begin;
+                System.out.println(StringUtils.format("pending: {} -> {} timeouts: wheel {} ns/op, ScheduledThreadPoolExecutor {} ns/op",
+                        pending, TIMEOUTS, wheel / TIMEOUTS, pool / TIMEOUTS));
+            }
+            outstanding.forEach(future -> future.complete(0));
+        }
+        executor.shutdown();
+        Assert.assertEquals(0, timerLauncher.size());
+        Assert.assertEquals(0, executor.getQueue().size());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.exception.RaidenException;
+import io.github.fishlikewater.raiden.timer.core.annotation.TimerTask;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code MethodTimerTaskTest}
+ * {@link TimerTask} 方法任务的解析、执行与调用开销
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class MethodTimerTaskTest {
+
+    TimerLauncher timerLauncher;
+
+    @Before
+    public void init() {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerLauncher = new TimerLauncher(timerConfig);
+    }
+
+    @After
+    public void destroy() {
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testParse() throws NoSuchMethodException {
+        final Jobs jobs = new Jobs();
+        final MethodTimerTask delay = this.task(jobs, "delay");
+        Assert.assertEquals(200, delay.getDelayMs());
+        Assert.assertEquals("Jobs#delay", delay.getDesc());
+
+        final MethodTimerTask cron = this.task(jobs, "cron");
+        Assert.assertEquals("0/1 * * * * ?", cron.getCornExpression());
+        Assert.assertEquals(ConcurrencyPolicyEnum.SKIP_IF_RUNNING, cron.concurrencyPolicy());
+
+        final MethodTimerTask rate = this.task(jobs, "rate");
+        Assert.assertEquals(TimeUnit.SECONDS.toMillis(1), rate.getDelayMs());
+        Assert.assertEquals(TimeUnit.SECONDS.toMillis(1), rate.getFixedRateMs());
+        Assert.assertEquals("heartbeat", rate.getDesc());
+
+        final MethodTimerTask fixedDelay = this.task(jobs, "fixedDelay");
+        Assert.assertEquals(0, fixedDelay.getDelayMs());
+        Assert.assertEquals(500, fixedDelay.getFixedDelayMs());
+
+        this.assertInvalid(jobs, "invalid");
+        this.assertInvalid(jobs, "repeating");
+        this.assertInvalid(jobs, "parameter", int.class);
+    }
+
+    @Test
+    public void testSchedule() throws Exception {
+        final Jobs jobs = new Jobs();
+        timerLauncher.add(this.task(jobs, "delay"));
+        timerLauncher.add(this.task(jobs, "rate"));
+        Thread.sleep(2_500);
+
+        Assert.assertEquals(1, jobs.delay.get());
+        Assert.assertEquals(2, jobs.rate.get());
+    }
+
+    @Test
+    public void testInvokeCost() throws Exception {
+        final Jobs jobs = new Jobs();
+        final Method method = Jobs.class.getDeclaredMethod("count");
+        method.setAccessible(true);
+        final MethodTimerTask task = this.task(jobs, "count");
+        final int iterations = 10_000_000;
+        for (int round = 0; round < 3; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                jobs.count();
+            }
+            final long direct = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                task.run();
+            }
+            final long handle = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                method.invoke(jobs);
+            }
+            final long reflect = System.nanoTime() - begin;
+            if (round == 2) {
+                System.out.println(StringUtils.format("direct {} ns/op, MethodHandle {} ns/op, reflection {} ns/op",
+                        (double) direct / iterations, (double) handle / iterations, (double) reflect / iterations));
+            }
+        }
+        Assert.assertEquals(iterations * 9L, jobs.count.get());
+    }
+
+    private void assertInvalid(Object target, String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        try {
+            this.task(target, name, parameterTypes);
+            Assert.fail("expected invalid @TimerTask: " + name);
+        } catch (RaidenException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private MethodTimerTask task(Object target, String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        final Method method = target.getClass().getDeclaredMethod(name, parameterTypes);
+        return new MethodTimerTask(target, method, method.getAnnotation(TimerTask.class));
+    }
+
+    static class Jobs {
+
+        final AtomicInteger delay = new AtomicInteger();
+
+        final AtomicInteger rate = new AtomicInteger();
+
+        final AtomicInteger count = new AtomicInteger();
+
+        @TimerTask(delay = 200)
+        void delay() {
+            delay.incrementAndGet();
+        }
+
+        @TimerTask(cron = "0/1 * * * * ?", concurrencyPolicy = ConcurrencyPolicyEnum.SKIP_IF_RUNNING)
+        public void cron() {
+        }
+
+        @TimerTask(fixedRate = 1, timeUnit = TimeUnit.SECONDS, desc = "heartbeat")
+        private void rate() {
+            rate.incrementAndGet();
+        }
+
+        @TimerTask(fixedDelay = 500, delay = 0)
+        void fixedDelay() {
+        }
+
+        @TimerTask(delay = 100)
+        private void count() {
+            count.incrementAndGet();
+        }
+
+        @TimerTask(cron = "0/1 * * * * ?", delay = 100)
+        public void invalid() {
+        }
+
+        @TimerTask(fixedRate = 100, fixedDelay = 100)
+        public void repeating() {
+        }
+
+        @TimerTask(delay = 100)
+        public void parameter(int value) {
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.clock.TimerClock;
+import io.github.fishlikewater.raiden.timer.core.clock.VirtualTimerClock;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.ConcurrencyPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.MisfirePolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.timer.Timeout;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RepeatingTaskTest}
+ * 固定频率、固定延迟重复任务
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class RepeatingTaskTest {
+
+    private static final long START = 1_790_000_000_000L;
+
+    @Test
+    public void testFixedRate() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config(clock));
+        final LongAdder fired = new LongAdder();
+        final Timeout timeout = timerLauncher.add(this.task(fired, 200, 0));
+        final TimerTaskEntry entry = (TimerTaskEntry) timeout;
+
+        // 步长与周期错开, 每次触发都会晚于计划时间
+        while (clock.millis() < START + 10_000) {
+            clock.advance(Duration.ofMillis(70));
+            timerLauncher.advanceClock(0);
+        }
+        Assert.assertEquals(START + 10_010, clock.millis());
+        Assert.assertEquals(50, entry.getRepeats());
+        // 下次到期时间仍按计划推算, 没有累计偏移
+        Assert.assertEquals(START + 51 * 200, entry.getExpireMs());
+        Assert.assertSame(entry, timeout.task().getTimerTaskEntry());
+        Assert.assertTrue(entry.getDriftMs() > 0);
+        System.out.println(StringUtils.format("fixed rate: repeats {}, accumulated drift {} ms, next {}",
+                entry.getRepeats(), entry.getDriftMs(), entry.getExpireMs() - START));
+
+        Assert.assertTrue(timeout.cancel());
+        clock.advance(Duration.ofSeconds(1));
+        timerLauncher.advanceClock(0);
+        Assert.assertEquals(50, entry.getRepeats());
+        timerLauncher.shutdown();
+        this.awaitFired(fired, 50);
+    }
+
+    @Test
+    public void testFixedRateFireAllAfterStall() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config(clock));
+        final LongAdder fired = new LongAdder();
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public void run() {
+                fired.increment();
+            }
+
+            @Override
+            public MisfirePolicyEnum misfirePolicy() {
+                return MisfirePolicyEnum.FIRE_ALL;
+            }
+        };
+        task.setFixedRateMs(200);
+        task.setDelayMs(200);
+        final TimerTaskEntry entry = (TimerTaskEntry) timerLauncher.add(task);
+
+        // 停顿30分钟, 错过9000个周期: 本次触发 + 最多补偿1000次, 然后只调度下一个未来的周期
+        clock.advance(Duration.ofMinutes(30));
+        timerLauncher.advanceClock(0);
+        Assert.assertEquals(START + 1_800_200, entry.getExpireMs());
+        this.awaitFired(fired, 1_001);
+        System.out.println(StringUtils.format("fixed rate FIRE_ALL after 30 min stall: fired {}, next {}",
+                fired.sum(), entry.getExpireMs() - START));
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testFireAllWithSkipIfRunning() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config(clock));
+        final LongAdder fired = new LongAdder();
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public void run() {
+                fired.increment();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public MisfirePolicyEnum misfirePolicy() {
+                return MisfirePolicyEnum.FIRE_ALL;
+            }
+
+            @Override
+            public ConcurrencyPolicyEnum concurrencyPolicy() {
+                return ConcurrencyPolicyEnum.SKIP_IF_RUNNING;
+            }
+        };
+        task.setFixedRateMs(200);
+        task.setDelayMs(200);
+        timerLauncher.add(task);
+
+        // 错过的9个周期随本次触发在同一个工作线程中补偿, 不会因上一次仍在执行而被跳过
+        clock.advance(Duration.ofSeconds(2));
+        timerLauncher.advanceClock(0);
+        this.awaitFired(fired, 10);
+        Thread.sleep(100);
+        Assert.assertEquals(10, fired.sum());
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testFixedDelay() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config(clock));
+        final LongAdder fired = new LongAdder();
+        final TimerTaskEntry entry = (TimerTaskEntry) timerLauncher.add(this.task(fired, 0, 300));
+
+        while (clock.millis() < START + 3_000) {
+            clock.advance(Duration.ofMillis(100));
+            timerLauncher.advanceClock(0);
+            // 等待执行结束后的重新调度
+            final long deadline = System.currentTimeMillis() + 5_000;
+            while (entry.getExpireMs() <= clock.millis() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+        Assert.assertEquals(10, entry.getRepeats());
+        Assert.assertEquals(START + 3_300, entry.getExpireMs());
+        Assert.assertEquals(0, entry.getDriftMs());
+        timerLauncher.shutdown();
+        this.awaitFired(fired, 10);
+    }
+
+    @Test
+    public void testHeartbeat() throws InterruptedException {
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config(TimerClock.SYSTEM));
+        final LongAdder fired = new LongAdder();
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public void run() {
+                fired.increment();
+                try {
+                    // 执行耗时不影响频率
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        task.setFixedRateMs(200);
+        task.setDelayMs(200);
+        final TimerTaskEntry entry = (TimerTaskEntry) timerLauncher.add(task);
+        final long first = entry.getExpireMs();
+
+        Thread.sleep(2_100);
+        final long repeats = entry.getRepeats();
+        Assert.assertEquals(10, repeats);
+        Assert.assertEquals(first + repeats * 200, entry.getExpireMs());
+        System.out.println(StringUtils.format("heartbeat 200ms: repeats {}, accumulated drift {} ms, avg {} ms",
+                repeats, entry.getDriftMs(), (double) entry.getDriftMs() / repeats));
+        timerLauncher.shutdown();
+    }
+
+    private BaseTimerTask task(LongAdder fired, long fixedRateMs, long fixedDelayMs) {
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public void run() {
+                fired.increment();
+            }
+        };
+        task.setFixedRateMs(fixedRateMs);
+        task.setFixedDelayMs(fixedDelayMs);
+        task.setDelayMs(Math.max(fixedRateMs, fixedDelayMs));
+        return task;
+    }
+
+    private TimerConfig config(TimerClock clock) {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.setTimerClock(clock);
+        return timerConfig;
+    }
+
+    private void awaitFired(LongAdder fired, long expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (fired.sum() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(expected, fired.sum());
+    }
+}
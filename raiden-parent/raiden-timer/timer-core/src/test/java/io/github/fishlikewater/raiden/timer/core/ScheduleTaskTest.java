@@ -17,12 +17,22 @@ package io.github.fishlikewater.raiden.timer.core;
 
 import io.github.fishlikewater.raiden.core.references.org.springframework.scheduling.support.CronExpression;
 import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.metrics.TimerMetrics;
+import io.github.fishlikewater.raiden.timer.core.timer.Timeout;
 import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -39,7 +49,7 @@ public class ScheduleTaskTest {
     @Before
     public void init() {
         final TimerConfig timerConfig = new TimerConfig();
-        timerConfig.setTickMs(Duration.ofSeconds(1));
+        timerConfig.setTickMs(Duration.ofMillis(1));
         timerConfig.setWheelSize(60);
         timerConfig.setClock(Duration.ofMillis(20));
 
@@ -94,6 +104,97 @@ public class ScheduleTaskTest {
         Thread.sleep(15_000);
     }
 
+    @Test
+    public void testCancel() throws InterruptedException {
+        final AtomicBoolean executed = new AtomicBoolean();
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public long delayMs() {
+                return 2_000;
+            }
+
+            @Override
+            public void run() {
+                executed.set(true);
+            }
+        };
+        final Timeout timeout = timerLauncher.add(task);
+        Assert.assertEquals(1, timerLauncher.size());
+
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+        Assert.assertTrue(timeout.isCancelled());
+        Assert.assertEquals(0, timerLauncher.size());
+
+        Thread.sleep(3_000);
+        Assert.assertFalse(executed.get());
+        Assert.assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    public void testAddAll() throws InterruptedException {
+        final int count = 1_000;
+        final CountDownLatch fired = new CountDownLatch(count - 1);
+        final List<BaseTimerTask> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final BaseTimerTask task = new BaseTimerTask() {
+                @Override
+                public void run() {
+                    fired.countDown();
+                }
+            };
+            task.setDelayMs(100 + i);
+            tasks.add(task);
+        }
+        final List<Timeout> timeouts = timerLauncher.addAll(tasks);
+        Assert.assertEquals(count, timeouts.size());
+        Assert.assertEquals(count, timerLauncher.size());
+        Assert.assertTrue(timeouts.get(count - 1).cancel());
+        Assert.assertEquals(count - 1, timerLauncher.size());
+
+        Assert.assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        Assert.assertEquals(0, timerLauncher.size());
+        Assert.assertTrue(timeouts.get(0).isExpired());
+        Assert.assertFalse(timeouts.get(count - 1).isExpired());
+    }
+
+    @Test
+    public void testMetrics() throws InterruptedException {
+        final AtomicLong lag = new AtomicLong(-1);
+        final AtomicLong executions = new AtomicLong();
+        timerLauncher.setMetrics(new TimerMetrics() {
+            @Override
+            public void recordFireLag(long lagMs) {
+                lag.set(lagMs);
+            }
+
+            @Override
+            public void recordExecution(long durationNanos) {
+                executions.incrementAndGet();
+            }
+        });
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public long delayMs() {
+                return 1_000;
+            }
+
+            @Override
+            public void run() {
+                System.out.println("指标测试");
+            }
+        };
+        timerLauncher.add(task);
+        Assert.assertEquals(1, Arrays.stream(timerLauncher.levelOccupancy()).sum());
+
+        Thread.sleep(2_000);
+        Assert.assertEquals(1, executions.get());
+        Assert.assertTrue(lag.get() >= 0);
+        Assert.assertEquals(0, Arrays.stream(timerLauncher.levelOccupancy()).sum());
+        Assert.assertEquals(0, timerLauncher.workerBacklog());
+    }
+
     @Test
     public void testCorn() {
         final String corn = "30 0/5 * * * ?";
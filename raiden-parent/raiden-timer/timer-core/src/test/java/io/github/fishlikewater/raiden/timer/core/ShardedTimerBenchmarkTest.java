@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.SystemPropertyUtil;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ShardedTimerBenchmarkTest}
+ * 单时间轮与分片时间轮的吞吐对比
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Ignore("基准测试, 耗时较长, 需要时移除注解手动运行")
+public class ShardedTimerBenchmarkTest {
+
+    private static final int TASKS = 100_000;
+
+    private static final int MAX_DELAY_MS = 1_000;
+
+    @Test
+    public void testCompareShards() throws InterruptedException {
+        final int cores = Math.max(2, SystemPropertyUtil.getCores());
+        this.run(1);
+        this.run(cores);
+    }
+
+    private void run(int shards) throws InterruptedException {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.setShards(shards);
+        // 任务集中在1s内到期, 工作线程队列需容纳全部任务, 否则会被丢弃
+        timerConfig.getWorker().setQueueCapacity(TASKS);
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+
+        final int producers = Math.max(2, SystemPropertyUtil.getCores());
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final CountDownLatch fired = new CountDownLatch(TASKS);
+        final long begin = System.nanoTime();
+        for (int p = 0; p < producers; p++) {
+            final int count = TASKS / producers + (p < TASKS % producers ? 1 : 0);
+            executor.execute(() -> {
+                for (int i = 0; i < count; i++) {
+                    final BaseTimerTask task = new BaseTimerTask() {
+                        @Override
+                        public void run() {
+                            fired.countDown();
+                        }
+                    };
+                    task.setDelayMs(ThreadLocalRandom.current().nextInt(MAX_DELAY_MS));
+                    timerLauncher.add(task);
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        final long added = System.nanoTime() - begin;
+        Assert.assertTrue(fired.await(30, TimeUnit.SECONDS));
+        final long elapsed = System.nanoTime() - begin;
+        timerLauncher.shutdown();
+
+        System.out.println(StringUtils.format("shards: {} -> add {} tasks/s, all fired in {} ms (max delay {} ms)",
+                shards, TASKS * 1_000_000_000L / Math.max(1, added), TimeUnit.NANOSECONDS.toMillis(elapsed), MAX_DELAY_MS));
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * {@code TickerEngineBenchmarkTest}
+ * 100万等待任务下的空闲CPU与触发抖动
+ * <p>
+ * {@link #testDelayQueueBaseline()} 按改造前的方式(boss线程按 clock 间隔轮询 {@code DelayQueue<Bucket>})运行同一组任务作为对照
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+@Ignore("基准测试, 耗时较长, 需要时移除注解手动运行")
+public class TickerEngineBenchmarkTest {
+
+    private static final int PENDING = 1_000_000;
+
+    private static final int PROBES = 200;
+
+    private static final long IDLE_MS = 2_000;
+
+    private static final long TICK_MS = 1;
+
+    private static final int WHEEL_SIZE = 60;
+
+    private static final long CLOCK_MS = 20;
+
+    @Test
+    public void testIdleAndJitter() throws InterruptedException {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(TICK_MS));
+        timerConfig.setWheelSize(WHEEL_SIZE);
+        timerConfig.setClock(Duration.ofMillis(CLOCK_MS));
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+
+        this.measure("ticker engine", new Target() {
+            @Override
+            public void schedule(long delayMs, Runnable task) {
+                final BaseTimerTask baseTimerTask = new BaseTimerTask() {
+                    @Override
+                    public void run() {
+                        task.run();
+                    }
+                };
+                baseTimerTask.setDelayMs(delayMs);
+                timerLauncher.add(baseTimerTask);
+            }
+
+            @Override
+            public long wakeups() {
+                return timerLauncher.ticks();
+            }
+
+            @Override
+            public int size() {
+                return timerLauncher.size();
+            }
+
+            @Override
+            public void shutdown() {
+                timerLauncher.shutdown();
+            }
+        });
+    }
+
+    @Test
+    public void testDelayQueueBaseline() throws InterruptedException {
+        this.measure("delay queue", new DelayQueueTimer());
+    }
+
+    // ---------------------------------------------------------------- PRIVATE
+
+    private void measure(String name, Target target) throws InterruptedException {
+        // 预热: 工作线程(含虚拟线程)的首次创建不计入抖动
+        final CountDownLatch warmed = new CountDownLatch(PROBES);
+        for (int i = 0; i < PROBES; i++) {
+            target.schedule(i % 10, warmed::countDown);
+        }
+        Assert.assertTrue(warmed.await(10, TimeUnit.SECONDS));
+
+        // 大量远期任务, 空闲期间不应到期
+        for (int i = 0; i < PENDING; i++) {
+            target.schedule(TimeUnit.HOURS.toMillis(1) + i, () -> {});
+        }
+
+        // 空闲: 只有远期任务时的CPU与唤醒次数
+        Thread.sleep(200);
+        final long wakeupsBefore = target.wakeups();
+        final long cpuBefore = this.cpuNanos();
+        Thread.sleep(IDLE_MS);
+        final long idleCpu = this.cpuNanos() - cpuBefore;
+        final long idleWakeups = target.wakeups() - wakeupsBefore;
+
+        // 抖动: 零散的近期任务, 在任务内按计划时间计算延迟
+        final long[] lags = new long[PROBES];
+        final AtomicInteger index = new AtomicInteger();
+        final CountDownLatch fired = new CountDownLatch(PROBES);
+        for (int i = 0; i < PROBES; i++) {
+            final long delayMs = 50 + i * 7L;
+            final long expectMs = System.currentTimeMillis() + delayMs;
+            target.schedule(delayMs, () -> {
+                lags[index.getAndIncrement()] = System.currentTimeMillis() - expectMs;
+                fired.countDown();
+            });
+        }
+        Assert.assertTrue(fired.await(30, TimeUnit.SECONDS));
+        Assert.assertEquals(PENDING, target.size());
+        target.shutdown();
+
+        final long[] sorted = Arrays.copyOf(lags, PROBES);
+        Arrays.sort(sorted);
+        System.out.println(StringUtils.format("{}, pending: {} -> idle {} ms: cpu {} ms, wakeups {}; fire lag p50 {} ms, p99 {} ms, max {} ms",
+                name, PENDING, IDLE_MS, TimeUnit.NANOSECONDS.toMillis(idleCpu), idleWakeups,
+                sorted[PROBES / 2], sorted[PROBES * 99 / 100], sorted[PROBES - 1]));
+    }
+
+    private long cpuNanos() {
+        return ProcessHandle.current().info().totalCpuDuration().map(Duration::toNanos).orElse(0L);
+    }
+
+    interface Target {
+
+        void schedule(long delayMs, Runnable task);
+
+        long wakeups();
+
+        int size();
+
+        void shutdown();
+    }
+
+    /**
+     * 改造前的时间轮: bucket到期时间变化时重新放入 {@link DelayQueue},
+     * boss线程每次最多等待 clock 取出一个到期bucket, 推进指针后把任务重新加入(降级或提交执行)
+     */
+    static final class DelayQueueTimer implements Target {
+
+        private final DelayQueue<DelayedBucket> delayQueue = new DelayQueue<>();
+
+        private final ExecutorService workerThreadPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final AtomicLong wakeups = new AtomicLong();
+
+        private final Wheel timeWheel = new Wheel(TICK_MS, WHEEL_SIZE, System.currentTimeMillis(), delayQueue);
+
+        private final Thread boss = new Thread(this::advance, "timer-boss-baseline");
+
+        private volatile boolean running = true;
+
+        DelayQueueTimer() {
+            boss.setDaemon(true);
+            boss.start();
+        }
+
+        @Override
+        public void schedule(long delayMs, Runnable task) {
+            size.incrementAndGet();
+            this.addNode(new Node(System.currentTimeMillis() + delayMs, task));
+        }
+
+        @Override
+        public long wakeups() {
+            return wakeups.get();
+        }
+
+        @Override
+        public int size() {
+            return size.get();
+        }
+
+        @Override
+        public void shutdown() {
+            running = false;
+            boss.interrupt();
+            workerThreadPool.shutdown();
+        }
+
+        private void advance() {
+            while (running) {
+                try {
+                    final DelayedBucket bucket = delayQueue.poll(CLOCK_MS, TimeUnit.MILLISECONDS);
+                    wakeups.incrementAndGet();
+                    if (bucket != null) {
+                        timeWheel.advance(bucket.getExpiration());
+                        bucket.flush(this::addNode);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        private void addNode(Node node) {
+            if (!timeWheel.add(node)) {
+                size.decrementAndGet();
+                workerThreadPool.execute(node.task);
+            }
+        }
+    }
+
+    record Node(long expireMs, Runnable task) {}
+
+    static final class Wheel {
+
+        private final long tickMs;
+
+        private final int wheelSize;
+
+        private final long interval;
+
+        private final DelayedBucket[] buckets;
+
+        private final DelayQueue<DelayedBucket> delayQueue;
+
+        private volatile long currentTime;
+
+        private volatile Wheel overflowWheel;
+
+        Wheel(long tickMs, int wheelSize, long currentTime, DelayQueue<DelayedBucket> delayQueue) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new DelayedBucket[wheelSize];
+            this.currentTime = currentTime - (currentTime % tickMs);
+            this.delayQueue = delayQueue;
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new DelayedBucket();
+            }
+        }
+
+        boolean add(Node node) {
+            final long delayMs = node.expireMs() - currentTime;
+            if (delayMs < tickMs) {
+                return false;
+            }
+            if (delayMs < interval) {
+                final long virtualId = node.expireMs() / tickMs;
+                final DelayedBucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(node);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    delayQueue.offer(bucket);
+                }
+            } else {
+                this.overflowWheel().add(node);
+            }
+            return true;
+        }
+
+        void advance(long timestamp) {
+            if (timestamp >= currentTime + tickMs) {
+                currentTime = timestamp - (timestamp % tickMs);
+                final Wheel overflow = overflowWheel;
+                if (overflow != null) {
+                    overflow.advance(timestamp);
+                }
+            }
+        }
+
+        private Wheel overflowWheel() {
+            Wheel overflow = overflowWheel;
+            if (overflow == null) {
+                synchronized (this) {
+                    overflow = overflowWheel;
+                    if (overflow == null) {
+                        overflow = overflowWheel = new Wheel(interval, wheelSize, currentTime, delayQueue);
+                    }
+                }
+            }
+            return overflow;
+        }
+    }
+
+    static final class DelayedBucket implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1L);
+
+        private List<Node> nodes = new ArrayList<>();
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        synchronized void add(Node node) {
+            nodes.add(node);
+        }
+
+        void flush(Consumer<Node> consumer) {
+            final List<Node> expired;
+            synchronized (this) {
+                expired = nodes;
+                nodes = new ArrayList<>();
+                expiration.set(-1L);
+            }
+            expired.forEach(consumer);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiration.get() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(expiration.get(), ((DelayedBucket) o).expiration.get());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.TimerLaneEnum;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TimerLaneTest}
+ * 批量任务占住虚拟线程carrier时, 独立通道的超时任务仍能按时执行
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class TimerLaneTest {
+
+    private static final int BULK_TASKS = 16;
+
+    private static final int TIMEOUTS = 50;
+
+    @Test
+    public void testLaneIsolation() throws InterruptedException {
+        // 所有任务在同一个虚拟线程通道
+        final long[] shared = this.dispatchLag(TimerLaneEnum.NORMAL, TimerLaneEnum.NORMAL);
+        // 批量任务与超时任务分别走各自的通道
+        final long[] isolated = this.dispatchLag(TimerLaneEnum.BULK, TimerLaneEnum.CRITICAL);
+        System.out.println(StringUtils.format("timeout dispatch lag with pinned carriers: shared lane p50 {} ms, max {} ms; isolated lanes p50 {} ms, max {} ms",
+                shared[TIMEOUTS / 2], shared[TIMEOUTS - 1], isolated[TIMEOUTS / 2], isolated[TIMEOUTS - 1]));
+        Assert.assertTrue(isolated[TIMEOUTS - 1] < shared[TIMEOUTS - 1]);
+        Assert.assertTrue(isolated[TIMEOUTS / 2] < 100);
+    }
+
+    @Test
+    public void testLaneBacklog() throws InterruptedException {
+        final TimerConfig timerConfig = this.config();
+        timerConfig.getBulkWorker().setThreads(1);
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            timerLauncher.add(this.task(TimerLaneEnum.BULK, 0, () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        final long deadline = System.currentTimeMillis() + 2_000;
+        while (timerLauncher.workerBacklog(TimerLaneEnum.BULK) < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(4, timerLauncher.workerBacklog(TimerLaneEnum.BULK));
+        Assert.assertEquals(0, timerLauncher.workerBacklog(TimerLaneEnum.CRITICAL));
+        Assert.assertEquals(4, timerLauncher.workerBacklog());
+        release.countDown();
+        timerLauncher.shutdown();
+    }
+
+    private long[] dispatchLag(TimerLaneEnum bulkLane, TimerLaneEnum timeoutLane) throws InterruptedException {
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config());
+        final Object[] monitors = new Object[BULK_TASKS];
+        for (int i = 0; i < BULK_TASKS; i++) {
+            final Object monitor = monitors[i] = new Object();
+            timerLauncher.add(this.task(bulkLane, 0, () -> {
+                // 同步块中阻塞会占住虚拟线程的carrier
+                synchronized (monitor) {
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }));
+        }
+        Thread.sleep(20);
+
+        final long[] lags = new long[TIMEOUTS];
+        final CountDownLatch done = new CountDownLatch(TIMEOUTS);
+        for (int i = 0; i < TIMEOUTS; i++) {
+            final int index = i;
+            final long expireAt = System.currentTimeMillis() + 20;
+            timerLauncher.add(this.task(timeoutLane, 20, () -> {
+                lags[index] = Math.max(0, System.currentTimeMillis() - expireAt);
+                done.countDown();
+            }));
+            Thread.sleep(2);
+        }
+        Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+        timerLauncher.shutdown();
+        Arrays.sort(lags);
+        return lags;
+    }
+
+    private BaseTimerTask task(TimerLaneEnum lane, long delayMs, Runnable action) {
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public TimerLaneEnum lane() {
+                return lane;
+            }
+
+            @Override
+            public void run() {
+                action.run();
+            }
+        };
+        task.setDelayMs(delayMs);
+        return task;
+    }
+
+    private TimerConfig config() {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        return timerConfig;
+    }
+}
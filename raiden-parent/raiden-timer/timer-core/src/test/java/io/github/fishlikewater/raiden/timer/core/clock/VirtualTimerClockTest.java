@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.clock;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code VirtualTimerClockTest}
+ * 虚拟时钟下的确定性调度与一天任务的快速回放
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class VirtualTimerClockTest {
+
+    private static final long START = 1_790_000_000_000L;
+
+    private static final int REPLAY_TASKS = 10_000;
+
+    @Test
+    public void testDeterministic() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config(clock, 60));
+        final LongAdder fired = new LongAdder();
+        for (int i = 1; i <= 10; i++) {
+            final BaseTimerTask task = new BaseTimerTask() {
+                @Override
+                public void run() {
+                    fired.increment();
+                }
+            };
+            task.setDelayMs(TimeUnit.MINUTES.toMillis(i));
+            timerLauncher.add(task);
+        }
+
+        // 不推进时间, 真实时间流逝不会触发任务
+        Thread.sleep(200);
+        Assert.assertEquals(10, timerLauncher.size());
+
+        for (int i = 1; i <= 10; i++) {
+            clock.advance(Duration.ofSeconds(59));
+            timerLauncher.advanceClock(0);
+            Assert.assertEquals(11 - i, timerLauncher.size());
+            clock.advance(Duration.ofSeconds(1));
+            timerLauncher.advanceClock(0);
+            Assert.assertEquals(10 - i, timerLauncher.size());
+        }
+        timerLauncher.shutdown();
+        this.awaitFired(fired, 10);
+    }
+
+    @Test
+    public void testReplayDay() throws InterruptedException {
+        for (int wheelSize : new int[]{20, 60, 512}) {
+            this.replay(wheelSize);
+        }
+    }
+
+    private void replay(int wheelSize) throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerConfig timerConfig = this.config(clock, wheelSize);
+        timerConfig.getWorker().setQueueCapacity(REPLAY_TASKS);
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+        final LongAdder fired = new LongAdder();
+        final Random random = new Random(wheelSize);
+        final List<BaseTimerTask> tasks = new ArrayList<>(REPLAY_TASKS);
+        for (int i = 0; i < REPLAY_TASKS; i++) {
+            final BaseTimerTask task = new BaseTimerTask() {
+                @Override
+                public void run() {
+                    fired.increment();
+                }
+            };
+            task.setDelayMs(1 + random.nextInt((int) TimeUnit.DAYS.toMillis(1)));
+            tasks.add(task);
+        }
+        timerLauncher.addAll(tasks);
+        tasks.clear();
+
+        final long begin = System.nanoTime();
+        final long end = START + TimeUnit.DAYS.toMillis(1);
+        while (clock.millis() < end) {
+            clock.advance(Duration.ofSeconds(1));
+            timerLauncher.advanceClock(0);
+        }
+        Assert.assertEquals(0, timerLauncher.size());
+        this.awaitFired(fired, REPLAY_TASKS);
+        final long elapsed = System.nanoTime() - begin;
+        timerLauncher.shutdown();
+
+        System.out.println(StringUtils.format("wheelSize: {} -> replayed {} timeouts over 24h in {} ms ({} timeouts/s)",
+                wheelSize, REPLAY_TASKS, TimeUnit.NANOSECONDS.toMillis(elapsed), REPLAY_TASKS * 1_000_000_000L / Math.max(1, elapsed)));
+    }
+
+    private TimerConfig config(TimerClock clock, int wheelSize) {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(wheelSize);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.setTimerClock(clock);
+        // 每步推进1秒, 不把单步内的调度延迟当作错过触发
+        timerConfig.setMisfireThreshold(Duration.ofMinutes(1));
+        return timerConfig;
+    }
+
+    private void awaitFired(LongAdder fired, long expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 30_000;
+        while (fired.sum() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(expected, fired.sum());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.cluster;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+import io.github.fishlikewater.raiden.timer.core.MethodTimerTask;
+import io.github.fishlikewater.raiden.timer.core.annotation.TimerTask;
+import io.github.fishlikewater.raiden.timer.core.clock.VirtualTimerClock;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ClusterLeaseTest}
+ * 集群模式下corn任务每次触发只由一个节点执行
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class ClusterLeaseTest {
+
+    private static final long START = 1_790_000_000_000L;
+
+    private static final int NODES = 20;
+
+    @Test
+    public void testSingleton() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final LocalTimerLease lease = new LocalTimerLease(clock);
+        final LongAdder fired = new LongAdder();
+        final LongAdder everyNode = new LongAdder();
+        final TimerLauncher[] nodes = new TimerLauncher[NODES];
+        final LongAdder[] perNode = new LongAdder[NODES];
+        for (int i = 0; i < NODES; i++) {
+            final LongAdder counter = perNode[i] = new LongAdder();
+            nodes[i] = new TimerLauncher(this.config(clock, lease));
+            nodes[i].add(new CronTask(() -> {
+                fired.increment();
+                counter.increment();
+            }, CronTask.class.getName()));
+            // 不参与选举的任务每个节点都执行
+            nodes[i].add(new CronTask(everyNode::increment, null));
+        }
+
+        for (int step = 0; step < 100; step++) {
+            clock.advance(Duration.ofMillis(100));
+            for (TimerLauncher node : nodes) {
+                node.advanceClock(0);
+            }
+        }
+        this.await(fired, 10);
+        this.await(everyNode, 10L * NODES);
+        Thread.sleep(200);
+        Assert.assertEquals(10, fired.sum());
+        final StringBuilder distribution = new StringBuilder();
+        for (LongAdder counter : perNode) {
+            distribution.append(counter.sum()).append(' ');
+        }
+        System.out.println(StringUtils.format("{} nodes, 10 fires -> per node: {}, leases: {}", NODES, distribution, lease.size()));
+        for (TimerLauncher node : nodes) {
+            node.shutdown();
+        }
+    }
+
+    @Test
+    public void testSameClassBeans() throws Exception {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final LocalTimerLease lease = new LocalTimerLease(clock);
+        final LongAdder first = new LongAdder();
+        final LongAdder second = new LongAdder();
+        final Method method = Job.class.getDeclaredMethod("fire");
+        final TimerLauncher[] nodes = new TimerLauncher[3];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new TimerLauncher(this.config(clock, lease));
+            // 同一个类的两个bean按bean名称区分租约, 同一毫秒触发互不影响
+            nodes[i].add(new MethodTimerTask("firstJob", new Job(first), method, method.getAnnotation(TimerTask.class)));
+            nodes[i].add(new MethodTimerTask("secondJob", new Job(second), method, method.getAnnotation(TimerTask.class)));
+        }
+        for (int step = 0; step < 100; step++) {
+            clock.advance(Duration.ofMillis(100));
+            for (TimerLauncher node : nodes) {
+                node.advanceClock(0);
+            }
+        }
+        this.await(first, 10);
+        this.await(second, 10);
+        Thread.sleep(200);
+        Assert.assertEquals(10, first.sum());
+        Assert.assertEquals(10, second.sum());
+        // 未指定key的任务默认不参与选举
+        Assert.assertNull(new BaseTimerTask() {
+            @Override
+            public void run() {
+            }
+        }.clusterKey());
+        for (TimerLauncher node : nodes) {
+            node.shutdown();
+        }
+    }
+
+    @Test
+    public void testLeaseError() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerLauncher timerLauncher = new TimerLauncher(this.config(clock, (key, leaseMs) -> {
+            throw new IllegalStateException("redis unavailable");
+        }));
+        final LongAdder fired = new LongAdder();
+        timerLauncher.add(new CronTask(fired::increment, CronTask.class.getName()));
+        for (int step = 0; step < 30; step++) {
+            clock.advance(Duration.ofMillis(100));
+            timerLauncher.advanceClock(0);
+        }
+        Thread.sleep(200);
+        // 无法确认租约时跳过, 不会阻塞后续调度
+        Assert.assertEquals(0, fired.sum());
+        Assert.assertEquals(1, timerLauncher.size());
+        timerLauncher.shutdown();
+    }
+
+    @Test
+    public void testRequireLease() {
+        final TimerConfig timerConfig = this.config(new VirtualTimerClock(START), null);
+        try {
+            new TimerLauncher(timerConfig).shutdown();
+            Assert.fail("expected missing TimerLease");
+        } catch (RuntimeException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private TimerConfig config(VirtualTimerClock clock, TimerLease lease) {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.setTimerClock(clock);
+        timerConfig.getCluster().setEnabled(true);
+        timerConfig.setTimerLease(lease);
+        return timerConfig;
+    }
+
+    private void await(LongAdder fired, long expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (fired.sum() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(expected, fired.sum());
+    }
+
+    static class Job {
+
+        private final LongAdder fired;
+
+        Job(LongAdder fired) {
+            this.fired = fired;
+        }
+
+        @TimerTask(cron = "0/1 * * * * ?")
+        public void fire() {
+            fired.increment();
+        }
+    }
+
+    static class CronTask extends BaseTimerTask {
+
+        private final Runnable action;
+
+        private final String clusterKey;
+
+        CronTask(Runnable action, String clusterKey) {
+            this.action = action;
+            this.clusterKey = clusterKey;
+        }
+
+        @Override
+        public String cornExpression() {
+            return "0/1 * * * * ?";
+        }
+
+        @Override
+        public String clusterKey() {
+            return clusterKey;
+        }
+
+        @Override
+        public void run() {
+            action.run();
+        }
+    }
+}
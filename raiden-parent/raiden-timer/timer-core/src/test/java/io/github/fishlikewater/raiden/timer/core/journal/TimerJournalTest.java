@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2025 zhangxiang (fishlikewater@126.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.fishlikewater.raiden.timer.core.journal;
+
+import io.github.fishlikewater.raiden.core.StringUtils;
+import io.github.fishlikewater.raiden.core.exception.RaidenException;
+import io.github.fishlikewater.raiden.timer.core.BaseTimerTask;
+import io.github.fishlikewater.raiden.timer.core.clock.VirtualTimerClock;
+import io.github.fishlikewater.raiden.timer.core.config.TimerConfig;
+import io.github.fishlikewater.raiden.timer.core.enums.FsyncPolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.enums.MisfirePolicyEnum;
+import io.github.fishlikewater.raiden.timer.core.metrics.TimerMetrics;
+import io.github.fishlikewater.raiden.timer.core.timer.TimerLauncher;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * {@code TimerJournalTest}
+ *
+ * @author zhangxiang
+ * @version 1.1.1
+ * @since 2026/10/18
+ */
+public class TimerJournalTest {
+
+    private static final long START = 1_790_000_000_000L;
+
+    private Path dir;
+
+    @Before
+    public void init() throws IOException {
+        dir = Files.createTempDirectory("timer-journal");
+    }
+
+    @After
+    public void clean() throws IOException {
+        try (Stream<Path> stream = Files.walk(dir)) {
+            for (Path path : stream.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    public void testReplay() {
+        final TimerConfig.Journal config = this.journalConfig(1024 * 1024);
+        final TimerJournal journal = new TimerJournal(config);
+        final long fired = journal.schedule(1_000, "a.Fired", null, null);
+        final long cancelled = journal.schedule(2_000, "a.Cancelled", null, null);
+        final long live = journal.schedule(3_000, "a.Live", "0/1 * * * * ?", "data");
+        journal.fire(fired);
+        journal.cancel(cancelled);
+        journal.close();
+
+        final TimerJournal reopened = new TimerJournal(config);
+        final List<JournalRecord> records = reopened.recover();
+        Assert.assertEquals(1, records.size());
+        final JournalRecord record = records.get(0);
+        Assert.assertEquals(live, record.getId());
+        Assert.assertEquals(3_000, record.getExpireMs());
+        Assert.assertEquals("a.Live", record.getTaskType());
+        Assert.assertEquals("0/1 * * * * ?", record.getCronExpression());
+        Assert.assertEquals("data", record.getPayload());
+        Assert.assertTrue(reopened.schedule(4_000, "a.Next", null, null) > live);
+        reopened.close();
+    }
+
+    @Test
+    public void testCompact() {
+        final TimerConfig.Journal config = this.journalConfig(4 * 1024);
+        final TimerJournal journal = new TimerJournal(config);
+        final long pinned = journal.schedule(1_000, "a.Pinned", "0/1 * * * * ?", null);
+        for (int i = 0; i < 1_000; i++) {
+            journal.fire(journal.schedule(i, "a.Task", null, null));
+        }
+        // 长期存活的记录会被搬到新分段, 旧分段随之删除
+        Assert.assertTrue(journal.segmentCount() <= 2);
+        journal.close();
+
+        final List<JournalRecord> records = new TimerJournal(config).recover();
+        Assert.assertEquals(1, records.size());
+        Assert.assertEquals(pinned, records.get(0).getId());
+    }
+
+    @Test
+    public void testReschedule() {
+        final TimerConfig.Journal config = this.journalConfig(4 * 1024);
+        final TimerJournal journal = new TimerJournal(config);
+        final long cron = journal.schedule(1_000, "a.Cron", "0/1 * * * * ?", "data");
+        // 每次重新调度追加一条记录, 切换分段时仍然只有一条存活
+        for (int i = 1; i <= 1_000; i++) {
+            journal.reschedule(cron, 1_000 + i * 1_000L);
+        }
+        Assert.assertTrue(journal.segmentCount() <= 2);
+        journal.close();
+
+        final List<JournalRecord> records = new TimerJournal(config).recover();
+        Assert.assertEquals(1, records.size());
+        Assert.assertEquals(cron, records.get(0).getId());
+        Assert.assertEquals(1_001_000, records.get(0).getExpireMs());
+        Assert.assertEquals("data", records.get(0).getPayload());
+    }
+
+    @Test
+    public void testRecoverMisfiredCron() throws InterruptedException {
+        final VirtualTimerClock clock = new VirtualTimerClock(START);
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.setTimerClock(clock);
+        timerConfig.setJournal(this.journalConfig(1024 * 1024));
+
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+        timerLauncher.add(new DurableCronTask());
+        for (int step = 0; step < 30; step++) {
+            clock.advance(Duration.ofMillis(100));
+            timerLauncher.advanceClock(0);
+        }
+        this.awaitRuns(3);
+        timerLauncher.shutdown();
+
+        // 停机5秒, 恢复时按日志中记录的下次到期时间处理: 本次触发 + 补偿错过的4次
+        clock.advance(Duration.ofSeconds(5));
+        final TimerLauncher restarted = new TimerLauncher(timerConfig);
+        this.awaitRuns(8);
+        Thread.sleep(100);
+        Assert.assertEquals(8, DurableCronTask.RUNS.sum());
+        Assert.assertEquals(1, restarted.size());
+        restarted.shutdown();
+    }
+
+    @Test
+    public void testRecoverLauncher() {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.setJournal(this.journalConfig(1024 * 1024));
+
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+        timerLauncher.add(new DurableTask());
+        timerLauncher.shutdown();
+
+        final TimerLauncher restarted = new TimerLauncher(timerConfig);
+        Assert.assertEquals(1, restarted.size());
+        restarted.shutdown();
+    }
+
+    @Test
+    public void testJournalErrorOnBossThread() throws Exception {
+        final TimerConfig timerConfig = new TimerConfig();
+        timerConfig.setTickMs(Duration.ofMillis(1));
+        timerConfig.setWheelSize(60);
+        timerConfig.setClock(Duration.ofMillis(20));
+        timerConfig.setJournal(this.journalConfig(4 * 1024));
+        final TimerLauncher timerLauncher = new TimerLauncher(timerConfig);
+        final LongAdder journalErrors = new LongAdder();
+        timerLauncher.setMetrics(new TimerMetrics() {
+            @Override
+            public void recordJournalError() {
+                journalErrors.increment();
+            }
+        });
+
+        // 目录被替换为普通文件, 之后切换分段都会失败
+        this.clean();
+        Files.createFile(dir);
+        int scheduled = 0;
+        try {
+            while (scheduled < 10_000) {
+                timerLauncher.add(new ShortDurableTask());
+                scheduled++;
+            }
+            Assert.fail();
+        } catch (RaidenException e) {
+            // 当前分段已写满
+        }
+
+        // 到期任务在boss线程上写入执行记录失败, 任务照常执行, 分片继续推进
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (ShortDurableTask.RUNS.sum() < scheduled && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(scheduled, ShortDurableTask.RUNS.sum());
+        Assert.assertTrue(journalErrors.sum() > 0);
+
+        final CountDownLatch fired = new CountDownLatch(1);
+        final BaseTimerTask task = new BaseTimerTask() {
+            @Override
+            public void run() {
+                fired.countDown();
+            }
+        };
+        task.setDelayMs(20);
+        timerLauncher.add(task);
+        Assert.assertTrue(fired.await(5, TimeUnit.SECONDS));
+        System.out.println(StringUtils.format("scheduled: {}, journal errors on boss thread: {}", scheduled, journalErrors.sum()));
+        timerLauncher.shutdown();
+    }
+
+    private void awaitRuns(long expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (DurableCronTask.RUNS.sum() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(expected, DurableCronTask.RUNS.sum());
+    }
+
+    private TimerConfig.Journal journalConfig(int segmentSize) {
+        final TimerConfig.Journal config = new TimerConfig.Journal();
+        config.setEnabled(true);
+        config.setDir(dir.toString());
+        config.setSegmentSize(segmentSize);
+        config.setFsync(FsyncPolicyEnum.BATCH);
+        return config;
+    }
+
+    public static class ShortDurableTask extends BaseTimerTask {
+
+        private static final LongAdder RUNS = new LongAdder();
+
+        @Override
+        public long delayMs() {
+            return 200;
+        }
+
+        @Override
+        public boolean durable() {
+            return true;
+        }
+
+        @Override
+        public void run() {
+            RUNS.increment();
+        }
+    }
+
+    public static class DurableCronTask extends BaseTimerTask {
+
+        private static final LongAdder RUNS = new LongAdder();
+
+        public DurableCronTask() {
+            this.setCornExpression("0/1 * * * * ?");
+        }
+
+        @Override
+        public boolean durable() {
+            return true;
+        }
+
+        @Override
+        public MisfirePolicyEnum misfirePolicy() {
+            return MisfirePolicyEnum.FIRE_ALL;
+        }
+
+        @Override
+        public void run() {
+            RUNS.increment();
+        }
+    }
+
+    public static class DurableTask extends BaseTimerTask {
+
+        @Override
+        public long delayMs() {
+            return 60_000;
+        }
+
+        @Override
+        public boolean durable() {
+            return true;
+        }
+
+        @Override
+        public void run() {
+            System.out.println("持久化任务执行");
+        }
+    }
+}